@@ -0,0 +1,8 @@
+-- replica 최초 기동 시 primary 복제 시작 (primary 가 늦게 뜨면 복제 스레드가 재접속을 반복함)
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql-primary',
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
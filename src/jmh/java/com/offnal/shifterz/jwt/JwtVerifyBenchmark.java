@@ -0,0 +1,79 @@
+package com.offnal.shifterz.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider.verify 비용 (요청마다 한 번 호출).
+ * cold: 검증 캐시에 없는 토큰 (서명 검증 + claims 파싱 + 캐시 저장), cached: 최근 검증한 토큰 (SHA-256 다이제스트 + 캐시 조회).
+ * ./gradlew jmh -Pjmh.includes=JwtVerifyBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    // cold 는 캐시 크기보다 훨씬 많은 토큰을 돌려 써서 항상 캐시에 없게 함
+    private static final int COLD_TOKENS = 8192;
+    private static final int COLD_CACHE_SIZE = 16;
+    private static final int CACHED_TOKENS = 1024;
+
+    private JwtTokenProvider coldProvider;
+    private JwtTokenProvider cachedProvider;
+    private String[] coldTokens;
+    private String[] cachedTokens;
+    private int coldIndex;
+    private int cachedIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coldProvider = newProvider(COLD_CACHE_SIZE);
+        cachedProvider = newProvider(10_000);
+
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = coldProvider.createToken((long) i + 1);
+        }
+        cachedTokens = new String[CACHED_TOKENS];
+        for (int i = 0; i < CACHED_TOKENS; i++) {
+            cachedTokens[i] = cachedProvider.createToken((long) i + 1);
+            cachedProvider.verify(cachedTokens[i]);
+        }
+    }
+
+    @Benchmark
+    public Long cold() {
+        coldIndex = (coldIndex + 1) % COLD_TOKENS;
+        return coldProvider.verify(coldTokens[coldIndex]);
+    }
+
+    @Benchmark
+    public Long cached() {
+        cachedIndex = (cachedIndex + 1) % CACHED_TOKENS;
+        return cachedProvider.verify(cachedTokens[cachedIndex]);
+    }
+
+    // 회원 캐시는 verify 에서 쓰지 않으므로 null
+    private JwtTokenProvider newProvider(long verifiedCacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(null, new SimpleMeterRegistry(), SECRET, verifiedCacheSize);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,152 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendar;
+import com.offnal.shifterz.work.domain.WorkInstance;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근무일 저장 비용: JDBC 배치(WorkInstanceBatchRepository.insertAll) vs 행마다 INSERT (IDENTITY 키의 JPA saveAll 과 같은 왕복 수).
+ * 애플리케이션 컨텍스트 없이 HikariDataSource + JdbcTemplate 만 만들어 저장소를 직접 측정한다 (애플리케이션과 같은 rewriteBatchedStatements 설정).
+ *
+ * 준비: docker compose -f docker-compose.local.yml up -d mysql-primary
+ * 실행: ./gradlew jmh -Pjmh.includes=WorkInstanceInsertBenchmark
+ * 접속 정보는 환경 변수 BENCH_DB_URL, BENCH_DB_USER, BENCH_DB_PASSWORD 로 바꿀 수 있고, 없으면 로컬 primary 의 shifterz_bench 스키마(root/root)를 쓴다.
+ * 전용 스키마에 WorkInstance 엔티티와 같은 컬럼의 work_instance 테이블을 없으면 만들고, 측정 중 넣은 행은 반복마다 지운다 (애플리케이션 스키마는 건드리지 않음).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WorkInstanceInsertBenchmark {
+
+    // 측정용 회원 / 근무표 ID (실제 데이터와 겹치지 않도록 음수)
+    private static final long MEMBER_ID = -1L;
+    private static final long CALENDAR_ID = -1L;
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+
+    private static final String CREATE_TABLE_SQL = """
+            create table if not exists work_instance (
+                id bigint not null auto_increment primary key,
+                work_day varchar(255),
+                work_time_type varchar(255),
+                work_calendar_id bigint,
+                member_id bigint,
+                work_date date not null,
+                index idx_work_instance_calendar_date (work_calendar_id, work_date)
+            )
+            """;
+    private static final String INSERT_SQL =
+            "insert into work_instance (work_day, work_time_type, work_calendar_id, member_id, work_date) values (?, ?, ?, ?, ?)";
+
+    // 한 번에 저장하는 근무일 수 (한 달 / 1년)
+    @Param({"31", "372"})
+    public int days;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private WorkInstanceBatchRepository batchRepository;
+    private List<WorkInstance> instances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(env("BENCH_DB_URL", "jdbc:mysql://localhost:3306/shifterz_bench?createDatabaseIfNotExist=true"));
+        config.setUsername(env("BENCH_DB_USER", "root"));
+        config.setPassword(env("BENCH_DB_PASSWORD", "root"));
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        batchRepository = new WorkInstanceBatchRepository(jdbcTemplate, 500);
+
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        instances = newInstances();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        jdbcTemplate.update("delete from work_instance where work_calendar_id = ?", CALENDAR_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void batchInsert() {
+        transactionTemplate.executeWithoutResult(status -> batchRepository.insertAll(instances));
+    }
+
+    @Benchmark
+    public void rowByRowInsert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (WorkInstance instance : instances) {
+                jdbcTemplate.update(INSERT_SQL,
+                        instance.getWorkDay(),
+                        instance.getWorkTimeType().name(),
+                        instance.getWorkCalendar().getId(),
+                        instance.getMemberId(),
+                        Date.valueOf(instance.getWorkDate()));
+            }
+        });
+    }
+
+    // 두 방식 모두 ID 를 채우지 않으므로 한 번 만들어 재사용
+    private List<WorkInstance> newInstances() {
+        WorkCalendar calendar = WorkCalendar.builder()
+                .id(CALENDAR_ID)
+                .memberId(MEMBER_ID)
+                .startDate(MONTH.atDay(1))
+                .build();
+
+        WorkTimeType[] types = WorkTimeType.values();
+        List<WorkInstance> result = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            LocalDate workDate = MONTH.atDay(1).plusDays(i);
+            result.add(WorkInstance.builder()
+                    .workDay(String.valueOf(workDate.getDayOfMonth()))
+                    .workDate(workDate)
+                    .memberId(MEMBER_ID)
+                    .workTimeType(types[i % types.length])
+                    .workCalendar(calendar)
+                    .build());
+        }
+        return result;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,75 @@
+package com.offnal.shifterz.config;
+
+import com.offnal.shifterz.global.datasource.DataSourceRole;
+import com.offnal.shifterz.global.datasource.ReadWriteRoutingDataSource;
+import com.offnal.shifterz.global.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * replica.enabled=true 일 때 primary / replica 두 커넥션 풀을 만들고 읽기 전용 트랜잭션을 replica 로 보낸다.
+ * 꺼져 있으면 이 설정은 빠지고 spring.datasource 하나만 사용하는 기본 구성이 그대로 동작한다.
+ * open-in-view 가 켜져 있으면 요청 동안 첫 커넥션이 유지되어 라우팅이 동작하지 않으므로 기동 시 막는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    public DataSourceConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("replica.enabled=true 에서는 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+    }
+
+    // spring.datasource 설정으로 만드는 쓰기용 풀 (기본 자동 구성과 같은 방식)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // replica.datasource 설정으로 만드는 읽기용 풀
+    @Bean
+    @ConfigurationProperties("replica.datasource")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${replica.read-your-writes-window-ms:3000}") long windowMs
+    ) {
+        return new ReadYourWritesTracker(Duration.ofMillis(windowMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(readYourWritesTracker, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어 readOnly 여부가 반영되도록 함
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,21 @@
+package com.offnal.shifterz.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 근무 기록 내보내기 전용 커넥션 풀 설정 (work.export.datasource).
+ * 서버 커서(useCursorFetch) 는 이 풀에서만 켜서, 일반 조회·쓰기 커넥션의 동작은 바꾸지 않는다.
+ * DataSource 빈으로 등록하면 기본 DataSource 자동 구성이 빠지므로 설정만 빈으로 두고 풀은 ShiftExportRepository 가 만든다.
+ */
+@Configuration
+public class ExportDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("work.export.datasource")
+    public HikariConfig exportDataSourceConfig() {
+        return new HikariConfig();
+    }
+}
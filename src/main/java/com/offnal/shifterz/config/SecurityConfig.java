@@ -1,7 +1,9 @@
 package com.offnal.shifterz.config;
 
 import com.offnal.shifterz.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,8 +24,24 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // actuator 전용 내부 포트 (외부에 공개하지 않으므로 actuator 경로만 인증 없이 접근)
+    @Value("${management.server.port:#{null}}")
+    private Integer managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.endpoints.web.base-path:/actuator}")
+    private String actuatorBasePath;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // 관리 포트가 없거나 앱 포트와 같으면 아래 규칙이 API 전체를 인증 없이 열게 되므로 기동 중단
+        if (managementPort == null || managementPort <= 0 || managementPort == serverPort) {
+            throw new IllegalStateException(
+                    "management.server.port must be set to a port different from server.port (" + serverPort + ")");
+        }
+
         http.cors().and() // ✅ CORS 활성화 추가
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests.requestMatchers(
@@ -34,6 +52,7 @@ public class SecurityConfig {
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**",
                                         "/error").permitAll()
+                                .requestMatchers(this::isManagementRequest).permitAll()
                                 .anyRequest().authenticated()
                 )
                 .csrf(csrf -> csrf.disable())
@@ -44,6 +63,15 @@ public class SecurityConfig {
     }
 
 
+    // 관리 포트로 들어온 actuator 경로 요청
+    private boolean isManagementRequest(HttpServletRequest request) {
+        if (request.getLocalPort() != managementPort) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(actuatorBasePath) || path.startsWith(actuatorBasePath + "/");
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -19,6 +19,17 @@ public class AuthService {
         return userDetails.getId();
     }
 
+    // 인증되지 않은 요청(스케줄러 등)이면 예외 대신 null 반환
+    public static Long getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return null;
+        }
+        return userDetails.getId();
+    }
+
+    // 회원 엔티티가 필요할 때만 사용 (토큰으로 인증된 요청은 이 시점에 회원을 조회, ID 만 필요하면 getCurrentUserId)
     public static com.offnal.shifterz.member.domain.Member getCurrentMember() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -0,0 +1,7 @@
+package com.offnal.shifterz.global.datasource;
+
+// 라우팅 대상 커넥션 풀
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
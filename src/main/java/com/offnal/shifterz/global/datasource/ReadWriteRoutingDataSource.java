@@ -0,0 +1,36 @@
+package com.offnal.shifterz.global.datasource;
+
+import com.offnal.shifterz.global.common.AuthService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 조회, 스키마 생성)는 primary 로 보내는 데이터소스.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        // datasource.routing{target=primary|replica} 커넥션 획득 횟수
+        this.primaryCounter = meterRegistry.counter("datasource.routing", "target", "primary");
+        this.replicaCounter = meterRegistry.counter("datasource.routing", "target", "replica");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !readYourWritesTracker.isWithinWindow(AuthService.getCurrentUserIdOrNull())) {
+            replicaCounter.increment();
+            return DataSourceRole.REPLICA;
+        }
+        primaryCounter.increment();
+        return DataSourceRole.PRIMARY;
+    }
+}
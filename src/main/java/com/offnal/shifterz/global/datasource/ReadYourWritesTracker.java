@@ -0,0 +1,49 @@
+package com.offnal.shifterz.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.offnal.shifterz.work.event.WorkCalendarChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 근무표를 막 변경한 회원 목록.
+ * 변경이 커밋된 뒤 일정 시간 동안은 해당 회원의 읽기 전용 트랜잭션도 primary 로 보내, 복제 지연으로 이전 근무표가 보이지 않게 한다.
+ * 노드 메모리에만 보관하므로 같은 회원의 다음 요청이 다른 노드로 가면 보장되지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    // 유예 시간 만료를 시계 대신 주어진 ticker 로 판단 (테스트용)
+    ReadYourWritesTracker(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+
+    // 회원이 아직 쓰기 직후 유예 시간 안에 있는지
+    public boolean isWithinWindow(Long memberId) {
+        return memberId != null && recentWriters.getIfPresent(memberId) != null;
+    }
+
+    public void markWritten(Long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    // 근무표 변경 커밋 직후 기록 (홈 스냅샷 캐시 제거보다 먼저 실행되어야 다시 채울 때 primary 를 읽음)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onWorkCalendarChanged(WorkCalendarChangedEvent event) {
+        markWritten(event.memberId());
+    }
+}
@@ -32,6 +32,12 @@ public enum ErrorCode {
 
     // 캘린더 수정 관련
     CALENDAR_NOT_FOUND(HttpStatus.NOT_FOUND, "해당하는 연도, 월의 캘린더를 찾을 수 없습니다."),
+    REVISION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 근무표 수정 이력을 찾을 수 없습니다."),
+
+    // 순환 근무 관련
+    ROTATION_DUPLICATION(HttpStatus.BAD_REQUEST, "이미 등록된 순환 근무가 있습니다."),
+    ROTATION_NOT_FOUND(HttpStatus.NOT_FOUND, "등록된 순환 근무가 없습니다."),
+    ROTATION_INVALID_END_DATE(HttpStatus.BAD_REQUEST, "마지막 근무일은 기준일 이후여야 합니다."),
 
     // 캘린더 삭제 관련
     CALENDAR_DELETE_FAILED(HttpStatus.BAD_REQUEST, "근무표 삭제에 실패하였습니다."),
@@ -39,6 +45,11 @@ public enum ErrorCode {
     //근무 관련
     WORK_INSTANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 일자에 저장된 근무 정보가 없습니다."),
     WORK_TIME_NOT_FOUND(HttpStatus.NOT_FOUND, "오늘의 근무 시간 정보가 없습니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다."),
+    INVALID_ICS_FILE(HttpStatus.BAD_REQUEST, "ICS 파일 형식이 올바르지 않습니다."),
+    ICS_RECURRENCE_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "반복 일정(RRULE, RDATE, EXRULE)은 지원하지 않습니다. 반복을 펼친 ICS 파일을 사용해 주세요."),
+    WORK_GROUP_FORBIDDEN(HttpStatus.FORBIDDEN, "해당 근무조의 근무 현황을 조회할 권한이 없습니다."),
+    WORK_GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않거나 가입하지 않은 근무조입니다."),
 
     // 근무일 조회 관련
     INVALID_YEAR_FORMAT(HttpStatus.BAD_REQUEST, "연도 형식이 올바르지 않습니다."),
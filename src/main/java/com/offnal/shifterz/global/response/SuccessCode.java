@@ -11,7 +11,11 @@ public enum SuccessCode {
     OK(HttpStatus.OK, "요청이 정상적으로 처리되었습니다."),
     CALENDAR_CREATED(HttpStatus.OK, "근무표 등록에 성공했습니다."),
     CALENDAR_UPDATED(HttpStatus.OK, "근무표 수정에 성공했습니다."),
-    CALENDAR_DELETED(HttpStatus.OK, "근무표 삭제에 성공했습니다.");
+    CALENDAR_RESTORED(HttpStatus.OK, "근무표 복원에 성공했습니다."),
+    CALENDAR_DELETED(HttpStatus.OK, "근무표 삭제에 성공했습니다."),
+    WORK_GROUP_CREATED(HttpStatus.OK, "근무조 생성에 성공했습니다."),
+    WORK_GROUP_JOINED(HttpStatus.OK, "근무조 가입에 성공했습니다."),
+    WORK_GROUP_LEFT(HttpStatus.OK, "근무조 탈퇴에 성공했습니다.");
 
 
     private final HttpStatus httpStatus;
@@ -1,12 +1,15 @@
 package com.offnal.shifterz.home.controller;
 
 import com.offnal.shifterz.global.exception.ErrorApiResponses;
+import com.offnal.shifterz.global.exception.ErrorResponse;
 import com.offnal.shifterz.global.response.SuccessCode;
 import com.offnal.shifterz.global.response.SuccessResponse;
+import com.offnal.shifterz.home.dto.HomeDayResDto;
 import com.offnal.shifterz.home.dto.HomeDetailResDto;
 import com.offnal.shifterz.home.service.HomeService;
 import com.offnal.shifterz.jwt.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,12 +17,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/home")
@@ -80,8 +88,69 @@ public class HomeController {
     @ErrorApiResponses.Common
     @GetMapping
     public ResponseEntity<SuccessResponse<HomeDetailResDto>> getHomeDetail(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        Long memberId = userDetails.getMember().getId();
+        Long memberId = userDetails.getId();
         HomeDetailResDto responseDto = homeService.getHomeDetail(memberId);
         return ResponseEntity.ok(SuccessResponse.success(SuccessCode.OK,responseDto));
     }
+
+    @Operation(
+            summary = "기간별 루틴 조회",
+            description = "from ~ to 기간(최대 31일)의 날짜별 근무 타입과 루틴(식사, 수면, 공복 시간 등)을 반환합니다. 근무 정보가 없는 날은 workType, routine 이 null 이고, 근무일인데 근무 시간 정보가 없으면 WORK_TIME_NOT_FOUND 오류를 반환합니다. 가장 가까운 수면 일정은 오늘 날짜에만 반영됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "기간별 루틴 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = HomeDayResDto.class)),
+                            examples = @ExampleObject(value = """
+                    {
+                      "code": "OK",
+                      "message": "요청이 정상적으로 처리되었습니다.",
+                      "data": [
+                        {
+                          "date": "2025-07-01",
+                          "workType": "OFF",
+                          "routine": {
+                            "meals": [
+                              { "label": "점심", "time": "13:30", "description": "기상 후 체력 회복", "items": ["김밥", "칼국수"] }
+                            ],
+                            "health": {
+                              "fastingComment": "생체 리듬 유지에 집중 야식, 피하고 수면 시간 지키기",
+                              "fastingSchedule": "저녁 식사 후 공복 유지",
+                              "sleepGuide": ["(2) 22:00 ~ 05:00 수면"],
+                              "sleepSchedule": "수면 22:00 ~ 05:00"
+                            }
+                          }
+                        },
+                        { "date": "2025-07-02", "workType": null, "routine": null }
+                      ]
+                    }
+                    """)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 기간",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(name = "INVALID_DATE_RANGE", value = """
+                                    {
+                                      "code": "INVALID_DATE_RANGE",
+                                      "message": "조회 기간이 올바르지 않습니다."
+                                    }
+                                    """)
+                    ))
+    })
+    @ErrorApiResponses.Common
+    @GetMapping("/range")
+    public ResponseEntity<SuccessResponse<List<HomeDayResDto>>> getHomeRange(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        Long memberId = userDetails.getId();
+        List<HomeDayResDto> responseDto = homeService.getHomeRange(memberId, from, to);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.OK, responseDto));
+    }
 }
\ No newline at end of file
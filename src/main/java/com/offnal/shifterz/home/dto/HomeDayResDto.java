@@ -0,0 +1,30 @@
+package com.offnal.shifterz.home.dto;
+
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class HomeDayResDto {
+
+    @Schema(description = "날짜", example = "2025-07-01")
+    private LocalDate date;
+
+    @Schema(description = "해당 날짜의 근무 유형 (근무 정보가 없으면 null)")
+    private WorkTimeType workType;
+
+    @Schema(description = "해당 날짜의 루틴 정보 (근무 정보가 없으면 null)")
+    private DailyRoutineResDto routine;
+
+    public static HomeDayResDto from(LocalDate date, WorkTimeType workType, DailyRoutineResDto routine) {
+        return HomeDayResDto.builder()
+                .date(date)
+                .workType(workType)
+                .routine(routine)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.offnal.shifterz.home.rule;
+
+import com.offnal.shifterz.home.dto.DailyRoutineResDto;
+import com.offnal.shifterz.home.dto.HealthGuideDto;
+import com.offnal.shifterz.home.dto.MealCardDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 근무 유형 + 전환(어제/내일 근무 유형) 조합 하나에 대해 컴파일된 루틴 규칙.
+ * 적용되는 수면 구간이 미리 걸러져 있어 요청 시에는 시각 계산과 문구 생성만 한다.
+ */
+public final class CompiledRoutine {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Meal[] meals;
+    private final TimeRef[] windowStarts;
+    private final TimeRef[] windowEnds;
+    private final RoutineTemplate[] windowGuides;
+    private final RoutineTemplate[] sleepGuide;
+    private final RoutineTemplate sleepSchedule;
+    private final RoutineTemplate fastingComment;
+    private final RoutineTemplate fastingSchedule;
+
+    CompiledRoutine(
+            Meal[] meals,
+            TimeRef[] windowStarts,
+            TimeRef[] windowEnds,
+            RoutineTemplate[] windowGuides,
+            RoutineTemplate[] sleepGuide,
+            RoutineTemplate sleepSchedule,
+            RoutineTemplate fastingComment,
+            RoutineTemplate fastingSchedule
+    ) {
+        this.meals = meals;
+        this.windowStarts = windowStarts;
+        this.windowEnds = windowEnds;
+        this.windowGuides = windowGuides;
+        this.sleepGuide = sleepGuide;
+        this.sleepSchedule = sleepSchedule;
+        this.fastingComment = fastingComment;
+        this.fastingSchedule = fastingSchedule;
+    }
+
+    // 현재 시각(초)과 시작 시각이 가장 가까운 수면 구간 인덱스 (구간이 없으면 -1, 같으면 앞쪽 우선)
+    public int closestWindow(int start, int end, int nowSecond) {
+        int closest = -1;
+        long minDiff = Long.MAX_VALUE;
+
+        for (int i = 0; i < windowStarts.length; i++) {
+            int windowStart = Math.floorMod(windowStarts[i].resolve(start, end), MINUTES_PER_DAY);
+            long diff = Math.abs(nowSecond - windowStart * 60L) / 60;
+            if (diff < minDiff) {
+                minDiff = diff;
+                closest = i;
+            }
+        }
+        return closest;
+    }
+
+    // 출퇴근 시각(분)과 가장 가까운 수면 구간으로 루틴 생성
+    public DailyRoutineResDto render(int start, int end, int closest) {
+        List<MealCardDto> mealCards = new ArrayList<>(meals.length);
+        for (Meal meal : meals) {
+            mealCards.add(MealCardDto.from(
+                    meal.label(),
+                    RoutineTemplate.format(meal.time().resolve(start, end)),
+                    meal.description(),
+                    meal.items()));
+        }
+
+        TimeRef closestStart = closest >= 0 ? windowStarts[closest] : null;
+        TimeRef closestEnd = closest >= 0 ? windowEnds[closest] : null;
+
+        List<String> guides = new ArrayList<>();
+        if (sleepGuide != null) {
+            for (RoutineTemplate template : sleepGuide) {
+                guides.add(template.render(start, end, null, null, closestStart, closestEnd));
+            }
+        } else {
+            for (int i = 0; i < windowGuides.length; i++) {
+                guides.add(windowGuides[i].render(start, end, windowStarts[i], windowEnds[i], closestStart, closestEnd));
+            }
+        }
+
+        return DailyRoutineResDto.from(
+                List.copyOf(mealCards),
+                HealthGuideDto.from(
+                        List.copyOf(guides),
+                        sleepSchedule.render(start, end, null, null, closestStart, closestEnd),
+                        fastingComment.render(start, end, null, null, closestStart, closestEnd),
+                        fastingSchedule.render(start, end, null, null, closestStart, closestEnd)
+                )
+        );
+    }
+
+    record Meal(String label, TimeRef time, String description, List<String> items) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.offnal.shifterz.home.rule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 루틴 규칙 파일을 읽어 결정 테이블로 컴파일하고, 파일이 바뀌면 새 테이블로 교체한다.
+ * 교체는 참조 하나만 바꾸므로 처리 중인 요청은 기존 테이블을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineRuleLoader {
+
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${home.routine.rules-location:classpath:routine/routine-rules.json}")
+    private String rulesLocation;
+
+    private final AtomicReference<RoutineRuleTable> table = new AtomicReference<>();
+    private volatile long lastModified;
+
+    @PostConstruct
+    protected void init() {
+        // 기동 시 규칙이 잘못되었으면 바로 실패
+        reload();
+    }
+
+    public RoutineRuleTable getTable() {
+        return table.get();
+    }
+
+    // 규칙 파일 변경 감지 후 재적용 (실패하면 기존 규칙 유지)
+    @Scheduled(fixedDelayString = "${home.routine.reload-interval-ms:30000}")
+    public void reloadIfModified() {
+        try {
+            if (lastModifiedOf(resourceLoader.getResource(rulesLocation)) != lastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("[RoutineRule] 루틴 규칙 재적용 실패, 기존 규칙 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    // 규칙 파일을 다시 읽어 컴파일한 뒤 교체
+    public synchronized RoutineRuleTable reload() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        long modified = lastModifiedOf(resource);
+
+        RoutineRuleSet ruleSet;
+        try (InputStream in = resource.getInputStream()) {
+            ruleSet = objectMapper.readValue(in, RoutineRuleSet.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("루틴 규칙 파일을 읽을 수 없습니다: " + rulesLocation, e);
+        }
+        RoutineRuleTable compiled = RoutineRuleTable.compile(ruleSet);
+
+        RoutineRuleTable previous = table.getAndSet(compiled);
+        lastModified = modified;
+        log.info("[RoutineRule] 루틴 규칙 적용: version {} -> {} ({})",
+                previous != null ? previous.getVersion() : "-", compiled.getVersion(), rulesLocation);
+        return compiled;
+    }
+
+    private long lastModifiedOf(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // jar 내부 등 수정 시각을 알 수 없는 위치
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.offnal.shifterz.home.rule;
+
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 루틴 규칙 파일(routine-rules.json) 원본 구조.
+ * 시간 표현: "HH:mm"(고정 시각), "S+60"/"S-60"(출근 기준 분), "E+30"/"E-180"(퇴근 기준 분)
+ */
+@Getter
+@NoArgsConstructor
+public class RoutineRuleSet {
+
+    // 규칙 파일 버전
+    private int version;
+
+    // 근무 유형별 루틴 규칙
+    private Map<WorkTimeType, RoutineRule> routines;
+
+    @Getter
+    @NoArgsConstructor
+    public static class RoutineRule {
+        private List<MealRule> meals = List.of();
+
+        private List<SleepWindowRule> sleepWindows = List.of();
+
+        // 수면 안내 문구 (없으면 적용되는 수면 구간의 guide 사용)
+        private List<String> sleepGuide;
+
+        private String sleepSchedule = "";
+
+        private String fastingComment = "";
+
+        private String fastingSchedule = "";
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class MealRule {
+        private String label;
+
+        private String time;
+
+        private String description;
+
+        private List<String> items = List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class SleepWindowRule {
+        private String start;
+
+        private String end;
+
+        private String guide;
+
+        // 전환 조건: 어제/내일 근무 유형이 일치할 때만 적용 (없으면 항상 적용)
+        private WorkTimeType yesterday;
+
+        private WorkTimeType tomorrow;
+    }
+}
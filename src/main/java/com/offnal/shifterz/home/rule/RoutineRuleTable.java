@@ -0,0 +1,123 @@
+package com.offnal.shifterz.home.rule;
+
+import com.offnal.shifterz.home.rule.RoutineRuleSet.MealRule;
+import com.offnal.shifterz.home.rule.RoutineRuleSet.RoutineRule;
+import com.offnal.shifterz.home.rule.RoutineRuleSet.SleepWindowRule;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 루틴 규칙 결정 테이블.
+ * (오늘, 어제, 내일) 근무 유형의 ordinal 로 바로 찾아가는 1차원 배열이며, 근무 정보가 없는 날(null)은 마지막 칸을 쓴다.
+ */
+public final class RoutineRuleTable {
+
+    private static final WorkTimeType[] TYPES = WorkTimeType.values();
+    private static final int TYPE_COUNT = TYPES.length;
+    private static final int SLOT_COUNT = TYPE_COUNT + 1;
+
+    @Getter
+    private final int version;
+
+    private final CompiledRoutine[] slots;
+
+    private RoutineRuleTable(int version, CompiledRoutine[] slots) {
+        this.version = version;
+        this.slots = slots;
+    }
+
+    // 오늘/어제/내일 근무 유형에 해당하는 규칙 조회
+    public CompiledRoutine lookup(WorkTimeType type, WorkTimeType yesterdayType, WorkTimeType tomorrowType) {
+        return slots[(type.ordinal() * SLOT_COUNT + slot(yesterdayType)) * SLOT_COUNT + slot(tomorrowType)];
+    }
+
+    private static int slot(WorkTimeType type) {
+        return type == null ? TYPE_COUNT : type.ordinal();
+    }
+
+    // 규칙 파일 -> 결정 테이블 (잘못된 규칙이면 IllegalStateException)
+    public static RoutineRuleTable compile(RoutineRuleSet ruleSet) {
+        if (ruleSet.getRoutines() == null) {
+            throw new IllegalStateException("루틴 규칙이 비어 있습니다.");
+        }
+
+        CompiledRoutine[] slots = new CompiledRoutine[TYPE_COUNT * SLOT_COUNT * SLOT_COUNT];
+
+        for (WorkTimeType type : TYPES) {
+            RoutineRule rule = ruleSet.getRoutines().get(type);
+            if (rule == null) {
+                throw new IllegalStateException("근무 유형의 루틴 규칙이 없습니다: " + type);
+            }
+            // 휴일에는 근무 시간이 없으므로 출퇴근 기준 시간을 쓸 수 없다
+            boolean relativeAllowed = type != WorkTimeType.OFF;
+
+            CompiledRoutine.Meal[] meals = compileMeals(rule.getMeals(), relativeAllowed);
+            List<SleepWindowRule> windows = rule.getSleepWindows();
+            RoutineTemplate[] sleepGuide = rule.getSleepGuide() == null ? null : rule.getSleepGuide().stream()
+                    .map(text -> RoutineTemplate.compile(text, relativeAllowed, false))
+                    .toArray(RoutineTemplate[]::new);
+            RoutineTemplate sleepSchedule = RoutineTemplate.compile(rule.getSleepSchedule(), relativeAllowed, false);
+            RoutineTemplate fastingComment = RoutineTemplate.compile(rule.getFastingComment(), relativeAllowed, false);
+            RoutineTemplate fastingSchedule = RoutineTemplate.compile(rule.getFastingSchedule(), relativeAllowed, false);
+
+            TimeRef[] windowStarts = new TimeRef[windows.size()];
+            TimeRef[] windowEnds = new TimeRef[windows.size()];
+            RoutineTemplate[] windowGuides = new RoutineTemplate[windows.size()];
+            for (int i = 0; i < windows.size(); i++) {
+                windowStarts[i] = TimeRef.parse(windows.get(i).getStart(), relativeAllowed);
+                windowEnds[i] = TimeRef.parse(windows.get(i).getEnd(), relativeAllowed);
+                windowGuides[i] = RoutineTemplate.compile(windows.get(i).getGuide(), relativeAllowed, true);
+            }
+
+            // 적용되는 수면 구간 조합이 같으면 같은 규칙 객체를 공유
+            Map<List<Integer>, CompiledRoutine> byActiveWindows = new HashMap<>();
+            for (int yesterday = 0; yesterday < SLOT_COUNT; yesterday++) {
+                for (int tomorrow = 0; tomorrow < SLOT_COUNT; tomorrow++) {
+                    WorkTimeType yesterdayType = yesterday < TYPE_COUNT ? TYPES[yesterday] : null;
+                    WorkTimeType tomorrowType = tomorrow < TYPE_COUNT ? TYPES[tomorrow] : null;
+
+                    List<Integer> active = new ArrayList<>();
+                    for (int i = 0; i < windows.size(); i++) {
+                        if (matches(windows.get(i), yesterdayType, tomorrowType)) {
+                            active.add(i);
+                        }
+                    }
+
+                    CompiledRoutine routine = byActiveWindows.computeIfAbsent(active, indexes -> new CompiledRoutine(
+                            meals,
+                            indexes.stream().map(i -> windowStarts[i]).toArray(TimeRef[]::new),
+                            indexes.stream().map(i -> windowEnds[i]).toArray(TimeRef[]::new),
+                            indexes.stream().map(i -> windowGuides[i]).toArray(RoutineTemplate[]::new),
+                            sleepGuide,
+                            sleepSchedule,
+                            fastingComment,
+                            fastingSchedule));
+
+                    slots[(type.ordinal() * SLOT_COUNT + yesterday) * SLOT_COUNT + tomorrow] = routine;
+                }
+            }
+        }
+
+        return new RoutineRuleTable(ruleSet.getVersion(), slots);
+    }
+
+    private static CompiledRoutine.Meal[] compileMeals(List<MealRule> meals, boolean relativeAllowed) {
+        return meals.stream()
+                .map(meal -> new CompiledRoutine.Meal(
+                        meal.getLabel(),
+                        TimeRef.parse(meal.getTime(), relativeAllowed),
+                        meal.getDescription(),
+                        List.copyOf(meal.getItems())))
+                .toArray(CompiledRoutine.Meal[]::new);
+    }
+
+    private static boolean matches(SleepWindowRule window, WorkTimeType yesterdayType, WorkTimeType tomorrowType) {
+        return (window.getYesterday() == null || window.getYesterday() == yesterdayType)
+                && (window.getTomorrow() == null || window.getTomorrow() == tomorrowType);
+    }
+}
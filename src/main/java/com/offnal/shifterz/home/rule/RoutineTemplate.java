@@ -0,0 +1,121 @@
+package com.offnal.shifterz.home.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * "{E+360} ~ {E+780} 수면" 형태의 문구를 미리 분해해 둔 템플릿.
+ * 치환자: 시간 표현, {start}/{end}(해당 수면 구간), {closestStart}/{closestEnd}(가장 가까운 수면 구간)
+ */
+final class RoutineTemplate {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // 분(0 ~ 1439) -> "HH:mm" 변환 테이블
+    private static final String[] HH_MM = new String[MINUTES_PER_DAY];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            HH_MM[minute] = String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^}]+)}");
+
+    private static final int LITERAL = 0;
+    private static final int TIME = 1;
+    private static final int WINDOW_START = 2;
+    private static final int WINDOW_END = 3;
+    private static final int CLOSEST_START = 4;
+    private static final int CLOSEST_END = 5;
+
+    private final int[] kinds;
+    private final String[] literals;
+    private final TimeRef[] times;
+    private final boolean usesClosest;
+
+    private RoutineTemplate(int[] kinds, String[] literals, TimeRef[] times) {
+        this.kinds = kinds;
+        this.literals = literals;
+        this.times = times;
+
+        boolean closest = false;
+        for (int kind : kinds) {
+            closest |= kind == CLOSEST_START || kind == CLOSEST_END;
+        }
+        this.usesClosest = closest;
+    }
+
+    static RoutineTemplate compile(String source, boolean relativeAllowed, boolean windowAllowed) {
+        List<Integer> kinds = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        List<TimeRef> times = new ArrayList<>();
+
+        String text = source != null ? source : "";
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        int position = 0;
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                kinds.add(LITERAL);
+                literals.add(text.substring(position, matcher.start()));
+                times.add(null);
+            }
+
+            String name = matcher.group(1).trim();
+            int kind = switch (name) {
+                case "start" -> WINDOW_START;
+                case "end" -> WINDOW_END;
+                case "closestStart" -> CLOSEST_START;
+                case "closestEnd" -> CLOSEST_END;
+                default -> TIME;
+            };
+            if (!windowAllowed && (kind == WINDOW_START || kind == WINDOW_END)) {
+                throw new IllegalStateException("{start}/{end}는 수면 구간 안내 문구에서만 쓸 수 있습니다: " + text);
+            }
+            kinds.add(kind);
+            literals.add(null);
+            times.add(kind == TIME ? TimeRef.parse(name, relativeAllowed) : null);
+            position = matcher.end();
+        }
+        if (position < text.length()) {
+            kinds.add(LITERAL);
+            literals.add(text.substring(position));
+            times.add(null);
+        }
+
+        return new RoutineTemplate(
+                kinds.stream().mapToInt(Integer::intValue).toArray(),
+                literals.toArray(new String[0]),
+                times.toArray(new TimeRef[0]));
+    }
+
+    // 분 단위 시각을 "HH:mm"으로 변환 (하루를 넘어가면 순환)
+    static String format(int minuteOfDay) {
+        return HH_MM[Math.floorMod(minuteOfDay, MINUTES_PER_DAY)];
+    }
+
+    /**
+     * 템플릿 문구 생성. 가장 가까운 수면 구간을 쓰는 템플릿인데 구간이 없으면 빈 문자열.
+     */
+    String render(int start, int end, TimeRef window0, TimeRef window1, TimeRef closest0, TimeRef closest1) {
+        if (usesClosest && closest0 == null) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL -> builder.append(literals[i]);
+                case TIME -> builder.append(format(times[i].resolve(start, end)));
+                case WINDOW_START -> builder.append(format(window0.resolve(start, end)));
+                case WINDOW_END -> builder.append(format(window1.resolve(start, end)));
+                case CLOSEST_START -> builder.append(format(closest0.resolve(start, end)));
+                case CLOSEST_END -> builder.append(format(closest1.resolve(start, end)));
+                default -> throw new IllegalStateException("알 수 없는 템플릿 구성입니다.");
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.offnal.shifterz.home.rule;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 파일의 시간 표현을 컴파일한 값 (기준 + 분 단위 오프셋)
+ */
+record TimeRef(int anchor, int offset) {
+
+    static final int ABSOLUTE = 0;
+    static final int START = 1;
+    static final int END = 2;
+
+    private static final Pattern ABSOLUTE_TIME = Pattern.compile("(\\d{1,2}):(\\d{2})");
+    private static final Pattern RELATIVE_TIME = Pattern.compile("([SE])([+-]\\d+)?");
+
+    static TimeRef parse(String expression, boolean relativeAllowed) {
+        if (expression == null) {
+            throw new IllegalStateException("시간 표현이 비어 있습니다.");
+        }
+        String trimmed = expression.trim();
+
+        Matcher absolute = ABSOLUTE_TIME.matcher(trimmed);
+        if (absolute.matches()) {
+            int hour = Integer.parseInt(absolute.group(1));
+            int minute = Integer.parseInt(absolute.group(2));
+            if (hour > 23 || minute > 59) {
+                throw new IllegalStateException("잘못된 시각입니다: " + expression);
+            }
+            return new TimeRef(ABSOLUTE, hour * 60 + minute);
+        }
+
+        Matcher relative = RELATIVE_TIME.matcher(trimmed);
+        if (relative.matches()) {
+            if (!relativeAllowed) {
+                throw new IllegalStateException("근무 시간이 없는 루틴에서는 출퇴근 기준 시간을 쓸 수 없습니다: " + expression);
+            }
+            int anchor = relative.group(1).equals("S") ? START : END;
+            int offset = relative.group(2) != null ? Integer.parseInt(relative.group(2)) : 0;
+            return new TimeRef(anchor, offset);
+        }
+
+        throw new IllegalStateException("알 수 없는 시간 표현입니다: " + expression);
+    }
+
+    // 출퇴근 시각(분)을 기준으로 실제 시각(분) 계산
+    int resolve(int start, int end) {
+        return switch (anchor) {
+            case START -> start + offset;
+            case END -> end + offset;
+            default -> offset;
+        };
+    }
+}
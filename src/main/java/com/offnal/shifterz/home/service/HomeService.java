@@ -3,248 +3,158 @@ package com.offnal.shifterz.home.service;
 import com.offnal.shifterz.global.exception.CustomException;
 import com.offnal.shifterz.global.exception.ErrorCode;
 import com.offnal.shifterz.home.dto.DailyRoutineResDto;
-import com.offnal.shifterz.home.dto.HealthGuideDto;
+import com.offnal.shifterz.home.dto.HomeDayResDto;
 import com.offnal.shifterz.home.dto.HomeDetailResDto;
-import com.offnal.shifterz.home.dto.MealCardDto;
-import com.offnal.shifterz.work.domain.WorkInstance;
+import com.offnal.shifterz.work.domain.ScheduledDay;
 import com.offnal.shifterz.work.domain.WorkTime;
 import com.offnal.shifterz.work.domain.WorkTimeType;
-import com.offnal.shifterz.work.repository.WorkInstanceRepository;
+import com.offnal.shifterz.work.service.WorkScheduleReader;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.util.AbstractMap;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class HomeService {
 
-    private final WorkInstanceRepository workInstanceRepository;
+    // 기간 조회 최대 일수
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final WorkScheduleReader workScheduleReader;
+    private final RoutineEngine routineEngine;
+    private final HomeSnapshotCache homeSnapshotCache;
 
     // 어제/오늘/내일 근무 형태 + 오늘의 루틴 정보를 모두 포함한 통합 API
     public HomeDetailResDto getHomeDetail(Long memberId) {
         LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
-        LocalDate tomorrow = today.plusDays(1);
+        HomeSnapshot snapshot = homeSnapshotCache.get(memberId, today, () -> loadSnapshot(memberId, today));
 
-        WorkTimeType yesterdayType = findWorkTypeOrNull(yesterday, memberId);
-        WorkTimeType todayType = findWorkTypeOrNull(today, memberId);
-        WorkTimeType tomorrowType = findWorkTypeOrNull(tomorrow, memberId);
+        DailyRoutineResDto routine = routineEngine.getRoutine(
+                snapshot.todayType(), snapshot.workTime(), snapshot.yesterdayType(), snapshot.tomorrowType());
 
-        // 오늘 근무 정보 조회
-        String day = String.valueOf(today.getDayOfMonth());
-        String year = String.valueOf(today.getYear());
-        String month = String.valueOf(today.getMonthValue());
+        return HomeDetailResDto.from(snapshot.yesterdayType(), snapshot.todayType(), snapshot.tomorrowType(), routine);
+    }
 
-        WorkInstance todayWork = workInstanceRepository
-                .findByWorkDayAndWorkCalendar_MemberIdAndWorkCalendar_YearAndWorkCalendar_Month(
-                        day, memberId, year, month
-                )
-                .orElseThrow(() -> new CustomException(ErrorCode.WORK_INSTANCE_NOT_FOUND));
+    // 특정 날짜 기준 어제/오늘/내일 근무 정보 조회
+    public HomeSnapshot loadSnapshot(Long memberId, LocalDate today) {
+        // 어제 ~ 내일 근무 정보를 근무표, 근무 시간과 함께 한 번에 조회
+        Map<LocalDate, ScheduledDay> window = toDateMap(
+                workScheduleReader.readDays(memberId, today.minusDays(1), today.plusDays(1)));
 
-        WorkTime workTime = null;
-        if (todayType != WorkTimeType.OFF) {
-            String typeKey = convertTypeToKey(todayType);
-            workTime = todayWork.getWorkCalendar().getWorkTimes().get(typeKey);
-            if (workTime == null) {
-                throw new CustomException(ErrorCode.WORK_TIME_NOT_FOUND);
+        return toSnapshot(window, today);
+    }
+
+    // 여러 회원의 스냅샷을 한 번의 조회로 계산해 캐시에 저장 (저장한 회원 수 반환, 조회 후 근무표가 바뀐 회원은 저장하지 않음)
+    public int prewarmSnapshots(List<Long> memberIds, LocalDate today) {
+        long readStartedAt = homeSnapshotCache.currentTick();
+        Map<Long, List<ScheduledDay>> windows = workScheduleReader
+                .readDays(memberIds, today.minusDays(1), today.plusDays(1));
+
+        int warmed = 0;
+        for (Map.Entry<Long, List<ScheduledDay>> entry : windows.entrySet()) {
+            Map<LocalDate, ScheduledDay> window = toDateMap(entry.getValue());
+            if (!window.containsKey(today)) {
+                continue;
+            }
+            try {
+                if (homeSnapshotCache.putIfUnchangedSince(entry.getKey(), today, toSnapshot(window, today), readStartedAt)) {
+                    warmed++;
+                }
+            } catch (CustomException e) {
+                // 근무 시간 정보가 없는 회원은 요청 시점에 기존처럼 오류 응답
+                log.debug("[HomePrewarm] 스냅샷 생략 memberId={} : {}", entry.getKey(), e.getMessage());
             }
         }
-
-        DailyRoutineResDto routine = getRoutineByWorkType(todayType, workTime, yesterdayType, tomorrowType);
-
-        return HomeDetailResDto.from(yesterdayType, todayType, tomorrowType, routine);
+        return warmed;
     }
 
-    // 근무 형태에 따른 루틴 구성
-    private DailyRoutineResDto getRoutineByWorkType(
-            WorkTimeType type,
-            WorkTime workTime,
-            WorkTimeType yesterdayType,
-            WorkTimeType tomorrowType
-    ) {
-        return switch (type) {
-            case OFF -> buildOffRoutine(yesterdayType, tomorrowType);
-            case DAY -> buildDayRoutine(workTime);
-            case EVENING -> buildEveningRoutine(workTime);
-            case NIGHT -> buildNightRoutine(workTime);
-        };
-    }
+    // 기간 내 날짜별 근무 형태와 루틴 (앞뒤 하루를 포함한 기간을 한 번에 조회)
+    public List<HomeDayResDto> getHomeRange(Long memberId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
 
-    // 근무 타입을 키값으로 변환 (ex: DAY -> D)
-    private String convertTypeToKey(WorkTimeType type) {
-        return switch (type) {
-            case DAY -> "D";
-            case EVENING -> "E";
-            case NIGHT -> "N";
-            case OFF -> "-";
-        };
-    }
+        Map<LocalDate, ScheduledDay> window = toDateMap(
+                workScheduleReader.readDays(memberId, from.minusDays(1), to.plusDays(1)));
 
-    // 특정 날짜의 근무 형태 조회
-    private WorkTimeType findWorkTypeOrNull(LocalDate date, Long memberId) {
-        String day = String.valueOf(date.getDayOfMonth());
-        String year = String.valueOf(date.getYear());
-        String month = String.valueOf(date.getMonthValue());
-
-        return workInstanceRepository
-                .findByWorkDayAndWorkCalendar_MemberIdAndWorkCalendar_YearAndWorkCalendar_Month(
-                        day, memberId, year, month
-                )
-                .map(WorkInstance::getWorkTimeType)
-                .orElse(null);
-    }
+        // 가장 가까운 수면 일정은 현재 시각 기준이므로 오늘 날짜에만 계산
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
 
-    // OFF 근무 루틴 구성
-    private DailyRoutineResDto buildOffRoutine(WorkTimeType yesterdayType, WorkTimeType tomorrowType) {
-        List<String> sleepSchedules = new ArrayList<>();
-        List<Map.Entry<LocalTime, LocalTime>> sleepRanges = new ArrayList<>();
+        // 어제/오늘/내일 근무 형태를 하루씩 밀면서 계산
+        List<HomeDayResDto> days = new ArrayList<>();
+        WorkTimeType previousType = findWorkTypeOrNull(window.get(from.minusDays(1)));
+        WorkTimeType currentType = findWorkTypeOrNull(window.get(from));
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            WorkTimeType nextType = findWorkTypeOrNull(window.get(date.plusDays(1)));
+
+            DailyRoutineResDto routine = null;
+            if (currentType != null) {
+                WorkTime workTime = findWorkTimeOrNull(window.get(date));
+                if (currentType != WorkTimeType.OFF && workTime == null) {
+                    throw new CustomException(ErrorCode.WORK_TIME_NOT_FOUND);
+                }
+                routine = routineEngine.getRoutine(
+                        currentType, workTime, previousType, nextType, date.equals(today) ? now : null);
+            }
+            days.add(HomeDayResDto.from(date, currentType, routine));
 
-        if (yesterdayType == WorkTimeType.NIGHT) {
-            sleepSchedules.add("(1) 08:00 ~ 13:00 수면");
-            sleepRanges.add(new AbstractMap.SimpleEntry<>(LocalTime.of(8, 0), LocalTime.of(13, 0)));
-        }
-        if (tomorrowType == WorkTimeType.DAY) {
-            sleepSchedules.add("(2) 22:00 ~ 05:00 수면");
-            sleepRanges.add(new AbstractMap.SimpleEntry<>(LocalTime.of(22, 0), LocalTime.of(5, 0)));
+            previousType = currentType;
+            currentType = nextType;
         }
-
-        String sleepComment = getClosestSleepScheduleComment(sleepRanges);
-
-        return DailyRoutineResDto.from(
-                List.of(
-                        meal("점심", LocalTime.of(13, 30), "기상 후 체력 회복", List.of("김밥", "칼국수")),
-                        meal("저녁", LocalTime.of(17, 30), "밤잠 대비 소화 부담 최소화", List.of("죽", "나물", "연두부"))
-                ),
-                HealthGuideDto.from(
-                        sleepSchedules,
-                        sleepComment,
-                        "생체 리듬 유지에 집중 야식, 피하고 수면 시간 지키기",
-                        "저녁 식사 후 공복 유지"
-                )
-        );
+        return days;
     }
 
-    // DAY 근무 루틴 구성
-    private DailyRoutineResDto buildDayRoutine(WorkTime workTime) {
-        LocalTime start = workTime.getStartTime();
-        LocalTime end = workTime.getEndTime();
-
-        LocalTime sleepStart = end.plusHours(6);
-        LocalTime sleepEnd = end.plusHours(13);
-
-        return DailyRoutineResDto.from(
-                List.of(
-                        meal("아침", start.minusHours(1), "기상 직후 에너지 공급", List.of("오트밀", "계란")),
-                        meal("점심", start.plusHours(5), " 근무 집중력 유지", List.of("현미밥", "생선", "나물")),
-                        meal("저녁", end.plusHours(3), "소화 부담 없는 식사로 수면 대비", List.of("밥", "두부", "나물"))
-                ),
-                HealthGuideDto.from(
-                        List.of("주간 근무 후, 오후 근무 대비해 늦게 수면"),
-                        format(sleepStart) + " ~ " + format(sleepEnd) + " 수면",
-                        "수면 질 향상 및 조기 기상 위해 저녁 일찍 → 공복 유지 후 수면",
-                        format(end.plusHours(4)) + " 이후 공복 유지"
-                )
-        );
-    }
+    private HomeSnapshot toSnapshot(Map<LocalDate, ScheduledDay> window, LocalDate today) {
+        ScheduledDay todayWork = window.get(today);
+        if (todayWork == null) {
+            throw new CustomException(ErrorCode.WORK_INSTANCE_NOT_FOUND);
+        }
 
-    // EVENING 근무 루틴 구성
-    private DailyRoutineResDto buildEveningRoutine(WorkTime workTime) {
-        LocalTime start = workTime.getStartTime();
-        LocalTime end = workTime.getEndTime();
-
-        LocalTime sleepStart = end.plusHours(15);
-        LocalTime fastingTime = end.plusHours(1);
-
-        return DailyRoutineResDto.from(
-                List.of(
-                        meal("아침", start.minusHours(7), "리듬 전환 대비", List.of("계란", "토스트")),
-                        meal("점심", start.minusHours(2), "근무 전 에너지 확보", List.of("현미밥", "닭가슴살", "채소")),
-                        meal("저녁", end.minusHours(3), "과식 피하기", List.of("고구마", "두부 샐러드"))
-                ),
-                HealthGuideDto.from(
-                        List.of("퇴근 후 바로 잠들면 내일 야간 근무에 지장이 갈 수 있어요"),
-                        "밤샘 후 " + format(sleepStart) + " 수면",
-                        "늦은 기상이므로 퇴근 후 과식 금지",
-                        format(fastingTime) + " 이후 공복 유지"
-                )
-        );
-    }
+        WorkTimeType todayType = todayWork.type();
 
-    // NIGHT 근무 루틴 구성
-    private DailyRoutineResDto buildNightRoutine(WorkTime workTime) {
-        LocalTime start = workTime.getStartTime();
-        LocalTime end = workTime.getEndTime();
-
-        LocalTime preSleepStart = start.minusHours(11);
-        LocalTime preSleepEnd = start.minusHours(6);
-        LocalTime postSleepStart = end.plusHours(2);
-        LocalTime postSleepEnd = end.plusHours(7);
-
-        String sleepComment = getClosestSleepScheduleComment(List.of(
-                new AbstractMap.SimpleEntry<>(preSleepStart, preSleepEnd),
-                new AbstractMap.SimpleEntry<>(postSleepStart, postSleepEnd)
-        ));
-
-        return DailyRoutineResDto.from(
-                List.of(
-                        meal("점심", LocalTime.of(12, 0), "야근 전 주요 에너지 확보", List.of("현미밥", "생선구이", "채소")),
-                        meal("출근 전 간식", start.minusHours(5), "포만감 및 졸림 방지", List.of("고구마", "삶은 달걀", "두유")),
-                        meal("근무 중 간식 1", start.plusHours(3), "혈당 안정 및 집중력 유지", List.of("바나나", "견과류")),
-                        meal("근무 중 간식 2", start.plusHours(6), "혈당 안정 및 집중력 유지", List.of("삶은 계란", "따뜻한 물")),
-                        meal("퇴근 직후 소식", end.plusMinutes(30), "위 부담 줄이며 안정된 수면 유도", List.of("연두부", "물"))
-                ),
-                HealthGuideDto.from(
-                        List.of(
-                                "(1) 출근 전 " + format(preSleepStart) + " ~ " + format(preSleepEnd) + " 수면",
-                                "(2) 퇴근 후 " + format(postSleepStart) + " ~ " + format(postSleepEnd) + " 수면"
-                        ),
-                        sleepComment,
-                        "퇴근 후 원활한 수면을 위해 " + format(end.minusHours(3)) + " 이후엔 카페인 섭취 금지",
-                        format(end.minusHours(3)) + " 이후 공복 유지"
-                )
-        );
-    }
+        WorkTime workTime = null;
+        if (todayType != WorkTimeType.OFF) {
+            workTime = findWorkTimeOrNull(todayWork);
+            if (workTime == null) {
+                throw new CustomException(ErrorCode.WORK_TIME_NOT_FOUND);
+            }
+        }
 
-    // 식단 카드 생성 유틸
-    private MealCardDto meal(String label, LocalTime time, String desc, List<String> items) {
-        return MealCardDto.from(label, format(time), desc, items);
+        return new HomeSnapshot(
+                findWorkTypeOrNull(window.get(today.minusDays(1))),
+                todayType,
+                findWorkTypeOrNull(window.get(today.plusDays(1))),
+                workTime);
     }
 
-    // 시간 포맷 변환 유틸
-    private String format(LocalTime time) {
-        return time.format(DateTimeFormatter.ofPattern("HH:mm"));
+    // 날짜별 근무일 (같은 날짜가 중복되면 먼저 읽은 것 사용)
+    private Map<LocalDate, ScheduledDay> toDateMap(List<ScheduledDay> days) {
+        return days.stream()
+                .collect(Collectors.toMap(ScheduledDay::date, day -> day, (first, second) -> first));
     }
 
-    // 현재 시간과 가장 가까운 수면 시간 반환
-    private String getClosestSleepScheduleComment(List<Map.Entry<LocalTime, LocalTime>> sleepRanges) {
-        LocalTime now = LocalTime.now();
-        Map.Entry<LocalTime, LocalTime> closest = null;
-        long minDiff = Long.MAX_VALUE;
-
-        for (Map.Entry<LocalTime, LocalTime> entry : sleepRanges) {
-            long diff = Math.abs(minutesBetween(now, entry.getKey()));
-            if (diff < minDiff) {
-                minDiff = diff;
-                closest = entry;
-            }
-        }
-
-        if (closest != null) {
-            return "수면 " + format(closest.getKey()) + " ~ " + format(closest.getValue());
-        } else {
-            return "";
+    // 근무일의 근무 시간 (휴일이거나 근무표에 시간 정보가 없으면 null)
+    private WorkTime findWorkTimeOrNull(ScheduledDay day) {
+        WorkTime calendarWorkTime = day != null ? day.workTime() : null;
+        if (calendarWorkTime == null) {
+            return null;
         }
+        // 캐시에 보관되므로 엔티티 값 복사
+        return WorkTime.of(calendarWorkTime.getTimeType(), calendarWorkTime.getStartTime(), calendarWorkTime.getEndTime());
     }
 
-    // 분 단위 차이 계산
-    private long minutesBetween(LocalTime t1, LocalTime t2) {
-        return Math.abs(t1.toSecondOfDay() - t2.toSecondOfDay()) / 60;
+    // 조회된 근무일의 근무 형태 (없으면 null)
+    private WorkTimeType findWorkTypeOrNull(ScheduledDay day) {
+        return day != null ? day.type() : null;
     }
 }
@@ -0,0 +1,16 @@
+package com.offnal.shifterz.home.service;
+
+import com.offnal.shifterz.work.domain.WorkTime;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+
+/**
+ * 회원의 하루치 홈 화면 계산 재료 (어제/오늘/내일 근무 유형, 오늘 근무 시간).
+ * 수면 일정은 현재 시각에 따라 달라지므로 루틴 자체가 아니라 재료를 캐시한다.
+ */
+public record HomeSnapshot(
+        WorkTimeType yesterdayType,
+        WorkTimeType todayType,
+        WorkTimeType tomorrowType,
+        WorkTime workTime
+) {
+}
@@ -0,0 +1,124 @@
+package com.offnal.shifterz.home.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.offnal.shifterz.work.event.WorkCalendarChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * (회원, 날짜)별 홈 스냅샷 캐시.
+ * 항목은 해당 날짜가 끝나는 자정에 만료되고, 근무표가 바뀌면 커밋 후 바로 제거된다.
+ * 미리 계산한 스냅샷(putIfUnchangedSince)은 조회를 시작한 뒤(또는 replica 지연 범위 안에서) 제거된 회원이면 저장하지 않는다.
+ */
+@Component
+public class HomeSnapshotCache {
+
+    // 제거 시각을 기억하는 기간 (미리 계산하는 배치 하나의 조회 ~ 저장 시간보다 충분히 길게)
+    private static final Duration EVICTION_RETENTION = Duration.ofMinutes(10);
+
+    private final Cache<SnapshotKey, HomeSnapshot> cache;
+    // 회원별 마지막 제거 시각 (System.nanoTime)
+    private final Cache<Long, Long> evictedAt;
+    // 커밋 후 replica 에 반영되기까지 허용하는 지연
+    private final long replicaLagNanos;
+
+    public HomeSnapshotCache(
+            MeterRegistry meterRegistry,
+            @Value("${home.snapshot.max-size:100000}") long maxSize,
+            @Value("${replica.read-your-writes-window-ms:3000}") long replicaLagMs
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilMidnight())
+                .recordStats()
+                .build();
+        this.evictedAt = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(EVICTION_RETENTION)
+                .build();
+        this.replicaLagNanos = Duration.ofMillis(replicaLagMs).toNanos();
+
+        // cache.gets{cache=homeSnapshot,result=hit|miss} 등 히트/미스 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "homeSnapshot");
+    }
+
+    public HomeSnapshot get(Long memberId, LocalDate date, Supplier<HomeSnapshot> loader) {
+        return cache.get(new SnapshotKey(memberId, date), key -> loader.get());
+    }
+
+    // putIfUnchangedSince 에 넘길 조회 시작 시각
+    public long currentTick() {
+        return System.nanoTime();
+    }
+
+    // readStartedAt 이후 제거된 회원이 아니면 저장 (저장 후 다시 확인해 그 사이 제거된 경우도 되돌림)
+    public boolean putIfUnchangedSince(Long memberId, LocalDate date, HomeSnapshot snapshot, long readStartedAt) {
+        if (evictedSince(memberId, readStartedAt)) {
+            return false;
+        }
+        SnapshotKey key = new SnapshotKey(memberId, date);
+        cache.put(key, snapshot);
+        if (evictedSince(memberId, readStartedAt)) {
+            cache.invalidate(key);
+            return false;
+        }
+        return true;
+    }
+
+    // 회원의 캐시 제거 (오늘, 미리 계산해 둔 내일, 제거 시각을 먼저 기록해 진행 중인 미리 계산이 다시 채우지 못하게 함)
+    public void evict(Long memberId) {
+        evictedAt.put(memberId, System.nanoTime());
+        LocalDate today = LocalDate.now();
+        cache.invalidate(new SnapshotKey(memberId, today));
+        cache.invalidate(new SnapshotKey(memberId, today.plusDays(1)));
+    }
+
+    // 근무표 변경이 커밋된 뒤 제거 (커밋 전에 지우면 동시 요청이 이전 값으로 다시 채울 수 있음)
+    @TransactionalEventListener
+    public void onWorkCalendarChanged(WorkCalendarChangedEvent event) {
+        evict(event.memberId());
+    }
+
+    // replica 지연을 감안해 조회 시작 직전에 커밋된 변경도 포함
+    private boolean evictedSince(Long memberId, long readStartedAt) {
+        Long evicted = evictedAt.getIfPresent(memberId);
+        return evicted != null && evicted - (readStartedAt - replicaLagNanos) >= 0;
+    }
+
+    private record SnapshotKey(Long memberId, LocalDate date) {
+    }
+
+    // 캐시 날짜가 끝나는 자정까지 유지
+    private static class UntilMidnight implements Expiry<SnapshotKey, HomeSnapshot> {
+
+        @Override
+        public long expireAfterCreate(SnapshotKey key, HomeSnapshot value, long currentTime) {
+            return nanosUntilMidnight(key.date());
+        }
+
+        @Override
+        public long expireAfterUpdate(SnapshotKey key, HomeSnapshot value, long currentTime, long currentDuration) {
+            return nanosUntilMidnight(key.date());
+        }
+
+        @Override
+        public long expireAfterRead(SnapshotKey key, HomeSnapshot value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long nanosUntilMidnight(LocalDate date) {
+            Duration remaining = Duration.between(LocalDateTime.now(), date.plusDays(1).atStartOfDay());
+            return Math.max(0L, remaining.toNanos());
+        }
+    }
+}
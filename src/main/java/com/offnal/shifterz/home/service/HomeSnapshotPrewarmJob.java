@@ -0,0 +1,110 @@
+package com.offnal.shifterz.home.service;
+
+import com.offnal.shifterz.work.repository.WorkCalendarRepository;
+import com.offnal.shifterz.work.repository.WorkRotationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자정 직전에 다음 날 홈 스냅샷을 미리 계산해 둔다.
+ * 그날 월별 근무표나 순환 근무가 있는 회원을 ID 순서(키셋)로 batch-size 만큼 끊어 읽고, 동시에 처리하는 배치 수는 parallelism 으로 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeSnapshotPrewarmJob {
+
+    private final WorkCalendarRepository workCalendarRepository;
+    private final WorkRotationRepository workRotationRepository;
+    private final HomeService homeService;
+
+    @Value("${home.prewarm.batch-size:500}")
+    private int batchSize;
+
+    @Value("${home.prewarm.parallelism:2}")
+    private int parallelism;
+
+    @Value("${home.prewarm.max-duration-minutes:120}")
+    private long maxDurationMinutes;
+
+    @Scheduled(cron = "${home.prewarm.cron:0 40 23 * * *}")
+    public void prewarmNextDay() {
+        prewarm(LocalDate.now().plusDays(1));
+    }
+
+    public void prewarm(LocalDate date) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime deadline = startedAt.plusMinutes(maxDurationMinutes);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism);
+        AtomicInteger warmed = new AtomicInteger();
+        int members = 0;
+        long lastMemberId = 0L;
+
+        try {
+            while (LocalDateTime.now().isBefore(deadline)) {
+                List<Long> memberIds = findMemberIdsAfter(date, lastMemberId);
+                if (memberIds.isEmpty()) {
+                    break;
+                }
+                lastMemberId = memberIds.get(memberIds.size() - 1);
+                members += memberIds.size();
+
+                // 처리 중인 배치가 parallelism 개를 넘지 않도록 대기
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        warmed.addAndGet(homeService.prewarmSnapshots(memberIds, date));
+                    } catch (Exception e) {
+                        log.error("[HomePrewarm] 배치 처리 실패 ({}명): {}", memberIds.size(), e.getMessage(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                if (memberIds.size() < batchSize) {
+                    break;
+                }
+            }
+
+            executor.shutdown();
+            long remaining = Duration.between(LocalDateTime.now(), deadline).toMillis();
+            if (!executor.awaitTermination(Math.max(remaining, 0L), TimeUnit.MILLISECONDS)) {
+                log.warn("[HomePrewarm] 제한 시간({}분) 초과로 중단", maxDurationMinutes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("[HomePrewarm] {} 스냅샷 {}건 / 대상 회원 {}명, {}ms",
+                date, warmed.get(), members, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+    }
+
+    // 월별 근무표 회원과 순환 근무 회원을 각각 키셋으로 읽어 합친 뒤 앞에서부터 batch-size 명
+    // (각 목록이 lastMemberId 다음 batch-size 명이므로 합친 목록의 앞 batch-size 명은 빠짐이 없음)
+    private List<Long> findMemberIdsAfter(LocalDate date, long lastMemberId) {
+        PageRequest page = PageRequest.of(0, batchSize);
+        TreeSet<Long> memberIds = new TreeSet<>(
+                workCalendarRepository.findMemberIdsByStartDateAfter(date.withDayOfMonth(1), lastMemberId, page));
+        memberIds.addAll(workRotationRepository.findMemberIdsCoveringAfter(date, lastMemberId, page));
+        return memberIds.stream().limit(batchSize).toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.offnal.shifterz.home.service;
+
+import com.offnal.shifterz.work.event.WorkCalendarOutboxEvent;
+import com.offnal.shifterz.work.event.WorkCalendarProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 아웃박스로 전달된 근무표 변경의 홈 스냅샷 제거.
+ * 커밋 직후 제거(HomeSnapshotCache.onWorkCalendarChanged)와 전달 사이에 다른 요청이 replica 의 이전 근무표로 캐시를 다시 채웠어도
+ * 전달 시점에 한 번 더 지워 오래된 스냅샷이 자정까지 남지 않게 한다.
+ * 캐시에는 오늘과 내일 스냅샷만 있으므로 바뀐 날짜 범위가 어제 ~ 모레와 겹칠 때만 지운다 (스냅샷이 어제/내일 근무 형태를 포함).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "work.outbox.enabled", havingValue = "true")
+public class HomeSnapshotProjection implements WorkCalendarProjection {
+
+    private final HomeSnapshotCache homeSnapshotCache;
+
+    @Override
+    public String name() {
+        return "homeSnapshot";
+    }
+
+    @Override
+    public void handle(WorkCalendarOutboxEvent event) {
+        if (affectsCachedDays(event, LocalDate.now())) {
+            homeSnapshotCache.evict(event.memberId());
+        }
+    }
+
+    // 전체 기간 변경이거나 바뀐 날짜 범위가 어제 ~ 모레와 겹치는지
+    static boolean affectsCachedDays(WorkCalendarOutboxEvent event, LocalDate today) {
+        if (event.fromDate() == null || event.toDate() == null) {
+            return true;
+        }
+        return !event.fromDate().isAfter(today.plusDays(2)) && !event.toDate().isBefore(today.minusDays(1));
+    }
+}
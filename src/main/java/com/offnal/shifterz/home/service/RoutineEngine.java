@@ -0,0 +1,69 @@
+package com.offnal.shifterz.home.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.offnal.shifterz.home.dto.DailyRoutineResDto;
+import com.offnal.shifterz.home.rule.CompiledRoutine;
+import com.offnal.shifterz.home.rule.RoutineRuleLoader;
+import com.offnal.shifterz.work.domain.WorkTime;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+
+/**
+ * 근무 맥락(오늘/어제/내일 근무 형태, 오늘 근무 시간, 가장 가까운 수면 일정)별 루틴 생성기.
+ * 규칙은 RoutineRuleLoader 의 결정 테이블에서 찾고, 같은 맥락이면 루틴이 항상 같으므로 한 번 만든 불변 루틴을 캐시해 재사용한다.
+ */
+@Component
+public class RoutineEngine {
+
+    private static final int NO_TIME = -1;
+
+    private final RoutineRuleLoader ruleLoader;
+    private final Cache<RoutineKey, DailyRoutineResDto> routineCache;
+
+    public RoutineEngine(RoutineRuleLoader ruleLoader, @Value("${home.routine.cache-size:1024}") long cacheSize) {
+        this.ruleLoader = ruleLoader;
+        this.routineCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    // 오늘 근무 맥락에 맞는 루틴 반환 (현재 시각 기준 가장 가까운 수면 일정 포함)
+    public DailyRoutineResDto getRoutine(
+            WorkTimeType type,
+            WorkTime workTime,
+            WorkTimeType yesterdayType,
+            WorkTimeType tomorrowType
+    ) {
+        return getRoutine(type, workTime, yesterdayType, tomorrowType, LocalTime.now());
+    }
+
+    // 근무 맥락에 맞는 루틴 반환 (캐시 우선, now 가 null 이면 가장 가까운 수면 일정을 고르지 않음)
+    public DailyRoutineResDto getRoutine(
+            WorkTimeType type,
+            WorkTime workTime,
+            WorkTimeType yesterdayType,
+            WorkTimeType tomorrowType,
+            LocalTime now
+    ) {
+        // 규칙이 다시 로드되면 규칙 객체가 바뀌므로 이전 캐시는 더 이상 조회되지 않고 밀려난다
+        CompiledRoutine routine = ruleLoader.getTable().lookup(type, yesterdayType, tomorrowType);
+
+        int start = workTime != null ? toMinute(workTime.getStartTime()) : NO_TIME;
+        int end = workTime != null ? toMinute(workTime.getEndTime()) : NO_TIME;
+        int closest = now != null ? routine.closestWindow(start, end, now.toSecondOfDay()) : NO_TIME;
+
+        return routineCache.get(new RoutineKey(routine, start, end, closest),
+                key -> key.routine().render(key.start(), key.end(), key.closest()));
+    }
+
+    private int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private record RoutineKey(CompiledRoutine routine, int start, int end, int closest) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.offnal.shifterz.jwt;
 
 import com.offnal.shifterz.member.domain.Member;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,14 +9,23 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Supplier;
 
+/**
+ * 인증된 회원 principal.
+ * JWT 요청에서는 토큰의 회원 ID 만으로 만들고, Member 는 getMember() 를 처음 호출할 때 한 번만 조회한다.
+ */
 @Getter
 public class CustomUserDetails implements UserDetails {
-    private final Member member;
     private final Long id;
-    private final String username; // 카카오 id
+    private final String username; // 카카오 id (토큰으로 만든 경우 회원 id)
     private final Collection<? extends GrantedAuthority> authorities;
 
+    @Getter(AccessLevel.NONE)
+    private Supplier<Member> memberLoader;
+    @Getter(AccessLevel.NONE)
+    private Member member;
+
     public CustomUserDetails(Member member) {
         this.member = member; // Member 객체 저장
         this.id = member.getId();
@@ -23,14 +33,26 @@ public class CustomUserDetails implements UserDetails {
         this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
-    @Override
-    public String getPassword() {
-        return null; // 카카오 로그인만 지원하므로 불필요
+    // 검증된 토큰의 회원 ID 로 생성 (Member 는 필요할 때 memberLoader 로 조회)
+    public CustomUserDetails(Long id, Supplier<Member> memberLoader) {
+        this.id = id;
+        this.username = id.toString();
+        this.memberLoader = memberLoader;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+
+    // 회원 엔티티 (토큰으로 만든 경우 첫 호출 시 조회, 요청 안에서는 재사용)
+    public Member getMember() {
+        if (member == null) {
+            member = memberLoader.get();
+            memberLoader = null;
+        }
+        return member;
     }
 
     @Override
-    public String getUsername() {
-        return member.getKakaoId().toString();
+    public String getPassword() {
+        return null; // 카카오 로그인만 지원하므로 불필요
     }
 
     @Override
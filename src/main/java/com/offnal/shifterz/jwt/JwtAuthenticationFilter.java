@@ -24,8 +24,10 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         String token = jwtTokenProvider.resolveToken((HttpServletRequest) servletRequest);
-        if(token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 토큰 검증은 요청당 한 번 (최근 검증한 토큰은 캐시 사용)
+        Long memberId = token != null ? jwtTokenProvider.verify(token) : null;
+        if(memberId != null) {
+            Authentication authentication = jwtTokenProvider.getAuthentication(memberId);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -1,39 +1,74 @@
 package com.offnal.shifterz.jwt;
 
-import com.offnal.shifterz.global.exception.CustomException;
-import com.offnal.shifterz.global.exception.ErrorCode;
-import com.offnal.shifterz.member.domain.Member;
-import com.offnal.shifterz.member.repository.MemberRepository;
-import com.offnal.shifterz.member.service.MemberService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.offnal.shifterz.member.service.MemberCache;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 @Component
 public class JwtTokenProvider {
-    private final MemberService memberService;
-    private final MemberRepository memberRepository;
-    @Value("${jwt.secret}") // application.properties 등에 보관한다.
-    private String secretKey;
-
-    private final UserDetailsService userDetailsService;
+    private final MemberCache memberCache;
+    private final MeterRegistry meterRegistry;
+    private final String secretKey;
+    private final long verifiedCacheSize;
+
+    // 기동 시 한 번 만들어 재사용 (둘 다 불변, 스레드 안전)
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 검증을 마친 토큰의 SHA-256 다이제스트 -> 회원 ID (토큰 만료 시각에 함께 만료)
+    private Cache<String, VerifiedToken> verifiedTokens;
+    private Timer verifyTimer;
+
+    public JwtTokenProvider(
+            MemberCache memberCache,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String secretKey, // application.properties 등에 보관한다.
+            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize
+    ) {
+        this.memberCache = memberCache;
+        this.meterRegistry = meterRegistry;
+        this.secretKey = secretKey;
+        this.verifiedCacheSize = verifiedCacheSize;
+    }
 
     @PostConstruct
     protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        // 기존 토큰과 같은 키 (이전에는 Base64 로 인코딩한 문자열을 매번 다시 디코딩해 사용)
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedToken");
+        // jwt.verify: 캐시에 없어 서명 검증과 claims 파싱을 한 시간
+        verifyTimer = meterRegistry.timer("jwt.verify");
     }
 
     // Access Token 생성
@@ -44,7 +79,7 @@ public class JwtTokenProvider {
                 .setClaims(claims) // 정보 저장
                 .setIssuedAt(now) // 토큰 발행 시간 정보
                 .setExpiration(new Date(now.getTime() + (7 * 24 * 60 * 60 * 1000L)))// 토큰 유효시각 설정 (일주일)
-                .signWith(SignatureAlgorithm.HS256, secretKey)  // 암호화 알고리즘과, secret 값
+                .signWith(signingKey, SignatureAlgorithm.HS256)  // 암호화 알고리즘과, secret 값
                 .compact();
     }
 
@@ -56,28 +91,30 @@ public class JwtTokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + (604800 * 1000L))) // 7일
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // 토큰에서 회원 정보 추출
-    public Long getUserPk(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.parseLong(claims.getSubject());
-    }
-
-    // 인증 정보 조회
-    public Authentication getAuthentication(String token) {
-        Long memberId = getUserPk(token);
+    // 토큰 검증 후 회원 ID 반환 (유효하지 않으면 null)
+    // 최근 검증한 토큰은 캐시에서 바로 반환하고, 처음 보는 토큰만 서명 검증과 파싱을 한 번 수행
+    public Long verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.memberId();
+        }
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        VerifiedToken verified = verifyTimer.record(() -> parse(token));
+        if (verified == null) {
+            return null;
+        }
+        verifiedTokens.put(digest, verified);
+        return verified.memberId();
+    }
 
-        CustomUserDetails customUserDetails = new CustomUserDetails(member);
+    // 인증 정보 생성 (토큰의 회원 ID 만 사용, 회원 조회는 AuthService.getCurrentMember() 호출 시점으로 미룸, 회원 캐시 우선)
+    public Authentication getAuthentication(Long memberId) {
+        CustomUserDetails customUserDetails = new CustomUserDetails(memberId, () -> memberCache.getById(memberId));
 
         return new UsernamePasswordAuthenticationToken(
                 customUserDetails,
@@ -86,16 +123,6 @@ public class JwtTokenProvider {
         );
     }
 
-    // 토큰 유효성, 만료일자 확인
-    public boolean validateToken(String jwtToken) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(jwtToken);
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     // Request의 Header에서 token 값 가져오기
     public String resolveToken(HttpServletRequest request) {
 
@@ -106,6 +133,53 @@ public class JwtTokenProvider {
         return request.getHeader("X-AUTH-TOKEN");
     }
 
+    // 서명, 만료일자 확인 후 회원 ID 추출 (만료 시각이 없거나 subject 가 회원 ID 가 아닌 토큰은 무효)
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration == null || expiration.before(new Date())) {
+                return null;
+            }
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), expiration.getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Long memberId, long expiresAtMillis) {
+    }
+
+    // 토큰 만료 시각까지 유지
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
 
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return nanosUntilExpiry(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return nanosUntilExpiry(value);
+        }
 
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long nanosUntilExpiry(VerifiedToken value) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.offnal.shifterz.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원 캐시 변경 버전 발급용 단일 행 카운터 (행 잠금이 커밋까지 유지되므로 버전이 커밋 순서대로 보임)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "member_cache_sequence")
+public class MemberCacheSequence {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_version")
+    private Long lastVersion;
+}
@@ -0,0 +1,23 @@
+package com.offnal.shifterz.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원 정보 변경 버전 (member_cache_sequence 에서 받은 전역 버전, 각 노드가 마지막으로 본 버전보다 큰 행을 주기적으로 조회해 회원 캐시를 비움)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "member_cache_version", indexes = {
+        @Index(name = "idx_member_cache_version_version", columnList = "version")
+})
+public class MemberCacheVersion {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    private Long version;
+}
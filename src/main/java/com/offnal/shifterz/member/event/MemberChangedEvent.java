@@ -0,0 +1,5 @@
+package com.offnal.shifterz.member.event;
+
+// 회원 정보 변경 이벤트
+public record MemberChangedEvent(Long memberId, Long kakaoId) {
+}
@@ -0,0 +1,52 @@
+package com.offnal.shifterz.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 회원 캐시 무효화용 변경 버전 저장소.
+ * 버전은 member_cache_sequence 한 행을 증가시켜 발급하고, 그 행 잠금이 커밋까지 유지되므로 먼저 받은 버전이 먼저 커밋된다.
+ * 따라서 마지막으로 본 버전보다 큰 행만 조회해도 늦게 커밋된 변경을 놓치지 않는다 (회원 정보 변경끼리는 이 행에서 순서대로 처리됨).
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberCacheVersionRepository {
+
+    private static final String NEXT_VERSION_SQL =
+            "insert into member_cache_sequence (id, last_version) values (1, last_insert_id(1)) "
+                    + "on duplicate key update last_version = last_insert_id(last_version + 1)";
+    private static final String BUMP_SQL =
+            "insert into member_cache_version (member_id, version) values (?, ?) "
+                    + "on duplicate key update version = ?";
+    private static final String CHANGED_AFTER_SQL =
+            "select member_id, version from member_cache_version where version > ? order by version limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 회원 변경 버전 발급 후 기록 (회원 정보 변경과 같은 트랜잭션에서 호출)
+    public void bump(Long memberId) {
+        jdbcTemplate.update(NEXT_VERSION_SQL);
+        Long version = jdbcTemplate.queryForObject("select last_insert_id()", Long.class);
+        jdbcTemplate.update(BUMP_SQL, memberId, version, version);
+    }
+
+    // lastSeen 보다 큰 버전의 변경을 버전 순서로 조회 ((version) 인덱스 범위 조회)
+    public List<MemberCacheChange> findChangedAfter(long lastSeen, int limit) {
+        return jdbcTemplate.query(CHANGED_AFTER_SQL,
+                (rs, rowNum) -> new MemberCacheChange(rs.getLong("member_id"), rs.getLong("version")),
+                lastSeen, limit);
+    }
+
+    // 지금까지 커밋된 가장 큰 버전 (없으면 0)
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject(
+                "select coalesce(max(version), 0) from member_cache_version", Long.class);
+        return version != null ? version : 0L;
+    }
+
+    public record MemberCacheChange(Long memberId, long version) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.offnal.shifterz.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.member.domain.Member;
+import com.offnal.shifterz.member.event.MemberChangedEvent;
+import com.offnal.shifterz.member.repository.MemberCacheVersionRepository;
+import com.offnal.shifterz.member.repository.MemberCacheVersionRepository.MemberCacheChange;
+import com.offnal.shifterz.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 ID / 카카오 ID 별 회원 캐시.
+ * 항목은 ttl 이 지나면 만료되고, 회원 정보가 바뀌면 이 노드는 커밋 직후, 다른 노드는 member_cache_version 을 마지막으로 본 버전 이후부터 주기적으로 조회해 비운다.
+ * 캐시에는 불변 값만 두고 꺼낼 때마다 새 Member 를 만들어 반환하므로, 호출한 쪽에서 값을 바꿔도 캐시에는 영향이 없다.
+ * 캐시는 primary 에서 읽은 값으로만 채운다. 진행 중인 트랜잭션이 있으면 그 트랜잭션(커넥션)으로 읽고, 읽기 전용(replica) 트랜잭션에서 읽은 값은 캐시하지 않는다
+ * (replica 지연으로 비운 직후 이전 값이 ttl 동안 남는 것 방지).
+ */
+@Slf4j
+@Component
+public class MemberCache {
+
+    // 한 번에 조회하는 변경 버전 수
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final MemberCacheVersionRepository versionRepository;
+    private final TransactionTemplate primaryReadTemplate;
+    private final Cache<Long, CachedMember> byId;
+    private final Cache<Long, Long> idByKakaoId;
+
+    // 마지막으로 확인한 변경 버전 (첫 확인 전이면 null)
+    private volatile Long lastSeenVersion;
+
+    public MemberCache(
+            MemberRepository memberRepository,
+            MemberCacheVersionRepository versionRepository,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.cache.max-size:100000}") long maxSize,
+            @Value("${member.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.memberRepository = memberRepository;
+        this.versionRepository = versionRepository;
+        // 진행 중인 트랜잭션이 있으면 참여하고, 없으면 읽기 전용이 아닌 트랜잭션을 열어 primary 에서 조회
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idByKakaoId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        // cache.gets{cache=member,result=hit|miss} 등 히트/미스 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "member");
+    }
+
+    // 회원 조회 (없으면 현재 트랜잭션으로 읽어 primary 에서 읽은 값만 캐시, 회원이 없으면 MEMBER_NOT_FOUND)
+    public Member getById(Long memberId) {
+        CachedMember cached;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 읽기 전용 트랜잭션은 replica 로 가므로 캐시에 없으면 읽기만 하고 저장하지 않음
+            cached = byId.getIfPresent(memberId);
+            if (cached == null) {
+                cached = load(memberId);
+            }
+        } else {
+            cached = byId.get(memberId, this::load);
+            if (cached != null) {
+                idByKakaoId.put(cached.kakaoId(), cached.id());
+            }
+        }
+        if (cached == null) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        return cached.toMember();
+    }
+
+    // 캐시에 있는 회원만 카카오 ID 로 조회 (DB 는 읽지 않음)
+    public Optional<Member> findCachedByKakaoId(Long kakaoId) {
+        Long memberId = idByKakaoId.getIfPresent(kakaoId);
+        CachedMember cached = memberId != null ? byId.getIfPresent(memberId) : null;
+        return Optional.ofNullable(cached).map(CachedMember::toMember);
+    }
+
+    public void evict(Long memberId, Long kakaoId) {
+        byId.invalidate(memberId);
+        if (kakaoId != null) {
+            idByKakaoId.invalidate(kakaoId);
+        }
+    }
+
+    // 이 노드의 변경은 커밋 직후 바로 제거 (다른 노드는 아래 주기 조회로 제거)
+    @TransactionalEventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.memberId(), event.kakaoId());
+    }
+
+    // 다른 노드에서 바뀐 회원 제거 (버전이 커밋 순서대로 발급되므로 마지막으로 본 버전 이후만 조회)
+    @Scheduled(fixedDelayString = "${member.cache.poll-interval-ms:2000}")
+    public void pollInvalidations() {
+        try {
+            Long lastSeen = lastSeenVersion;
+            if (lastSeen == null) {
+                // 첫 확인 전에 채워진 항목은 그 사이 변경 여부를 알 수 없으므로 비우고 버전만 기록
+                lastSeenVersion = versionRepository.currentVersion();
+                byId.invalidateAll();
+                idByKakaoId.invalidateAll();
+                return;
+            }
+
+            List<MemberCacheChange> changes;
+            do {
+                changes = versionRepository.findChangedAfter(lastSeen, POLL_BATCH_SIZE);
+                for (MemberCacheChange change : changes) {
+                    CachedMember cached = byId.getIfPresent(change.memberId());
+                    evict(change.memberId(), cached != null ? cached.kakaoId() : null);
+                    lastSeen = change.version();
+                }
+                lastSeenVersion = lastSeen;
+            } while (changes.size() == POLL_BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("[MemberCache] 변경 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private CachedMember load(Long memberId) {
+        return primaryReadTemplate.execute(status -> memberRepository.findById(memberId)
+                .map(CachedMember::from)
+                .orElse(null));
+    }
+
+    private record CachedMember(Long id, Long kakaoId, String kakaoNickname, String email, String profileImageUrl) {
+
+        static CachedMember from(Member member) {
+            return new CachedMember(member.getId(), member.getKakaoId(), member.getKakaoNickname(),
+                    member.getEmail(), member.getProfileImageUrl());
+        }
+
+        Member toMember() {
+            return new Member(id, kakaoId, kakaoNickname, email, profileImageUrl);
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.offnal.shifterz.member.service;
 
 import com.offnal.shifterz.jwt.CustomUserDetails;
 import com.offnal.shifterz.member.domain.Member;
+import com.offnal.shifterz.member.event.MemberChangedEvent;
+import com.offnal.shifterz.member.repository.MemberCacheVersionRepository;
 import com.offnal.shifterz.member.repository.MemberRepository;
 import jakarta.transaction.Transactional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,6 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -22,6 +26,9 @@ import java.util.Optional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final MemberCacheVersionRepository memberCacheVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카카오 로그인 회원 등록 또는 업데이트
@@ -33,13 +40,25 @@ public class MemberService {
      */
     @Transactional
     public MemberResult registerOrUpdateKakaoMember(Long kakaoId, String email, String nickname, String profileImageUrl) {
+        // 캐시된 회원 정보와 같으면 DB 조회/수정 없이 반환
+        Optional<Member> cachedMember = memberCache.findCachedByKakaoId(kakaoId);
+        if (cachedMember.isPresent() && isUnchanged(cachedMember.get(), email, profileImageUrl)) {
+            return new MemberResult(cachedMember.get(), false);
+        }
+
         Optional<Member> existingMember = memberRepository.findByKakaoId(kakaoId);
 
         if (existingMember.isPresent()) {
             // 기존 회원 정보 업데이트
             Member member = existingMember.get();
-            member.setEmail(email);
-            member.setProfileImageUrl(profileImageUrl);
+            if (!isUnchanged(member, email, profileImageUrl)) {
+                member.setEmail(email);
+                member.setProfileImageUrl(profileImageUrl);
+
+                // 다른 노드의 회원 캐시 무효화용 버전 증가 + 커밋 후 이 노드의 캐시 제거
+                memberCacheVersionRepository.bump(member.getId());
+                eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), kakaoId));
+            }
 
             return new MemberResult(member, false);
         } else {
@@ -63,6 +82,10 @@ public class MemberService {
         }
     }
 
+    private boolean isUnchanged(Member member, String email, String profileImageUrl) {
+        return Objects.equals(member.getEmail(), email) && Objects.equals(member.getProfileImageUrl(), profileImageUrl);
+    }
+
     /**
      * Member와 신규 가입 여부를 담는 결과 클래스
      */
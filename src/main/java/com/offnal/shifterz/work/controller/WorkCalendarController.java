@@ -1,14 +1,25 @@
 package com.offnal.shifterz.work.controller;
 
+import com.offnal.shifterz.global.common.AuthService;
 import com.offnal.shifterz.global.exception.ErrorApiResponses;
+import com.offnal.shifterz.global.exception.ErrorResponse;
 import com.offnal.shifterz.global.response.SuccessApiResponses;
 import com.offnal.shifterz.global.response.SuccessCode;
 import com.offnal.shifterz.global.response.SuccessResponse;
+import com.offnal.shifterz.work.domain.ShiftExportFormat;
+import com.offnal.shifterz.work.dto.WorkCalendarChangesResDto;
+import com.offnal.shifterz.work.dto.WorkCalendarImportDto;
+import com.offnal.shifterz.work.dto.WorkCalendarImportResDto;
 import com.offnal.shifterz.work.dto.WorkCalendarRequestDto;
-import com.offnal.shifterz.work.dto.WorkCalendarUnitDto;
+import com.offnal.shifterz.work.dto.WorkCalendarRevisionResDto;
 import com.offnal.shifterz.work.dto.WorkCalendarUpdateDto;
 import com.offnal.shifterz.work.dto.WorkDayResponseDto;
+import com.offnal.shifterz.work.dto.WorkMonthResponseDto;
+import com.offnal.shifterz.work.dto.WorkRosterResDto;
+import com.offnal.shifterz.work.service.ShiftHistoryExporter;
+import com.offnal.shifterz.work.service.WorkCalendarImportService;
 import com.offnal.shifterz.work.service.WorkCalendarService;
+import com.offnal.shifterz.work.service.WorkRosterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,11 +28,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -32,6 +53,9 @@ import java.util.List;
 public class WorkCalendarController {
 
     private final WorkCalendarService workCalendarService;
+    private final ShiftHistoryExporter shiftHistoryExporter;
+    private final WorkCalendarImportService workCalendarImportService;
+    private final WorkRosterService workRosterService;
 
     @Operation(summary = "근무표 등록", description = "사용자의 근무표를 월별로 등록합니다.")
     @SuccessApiResponses.CreateCalendar
@@ -80,15 +104,8 @@ public class WorkCalendarController {
                     )
             )
     )@RequestBody @Valid WorkCalendarRequestDto workCalendarRequestDto) {
-        for(WorkCalendarUnitDto unitDto : workCalendarRequestDto.getCalendars()){
-            WorkCalendarRequestDto requestDto = WorkCalendarRequestDto.builder()
-                    .calendarName(workCalendarRequestDto.getCalendarName())
-                    .workGroup(workCalendarRequestDto.getWorkGroup())
-                    .workTimes(workCalendarRequestDto.getWorkTimes())
-                    .calendars(List.of(unitDto))
-                    .build();
-            workCalendarService.saveWorkCalendar(requestDto);
-        }
+        // 여러 달의 근무표를 하나의 트랜잭션에서 일괄 저장
+        workCalendarService.saveWorkCalendar(workCalendarRequestDto);
         return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_CREATED));
     }
 
@@ -129,6 +146,235 @@ public class WorkCalendarController {
 
     }
 
+    @Operation(summary = "기간 근무일 조회", description = "from ~ to 기간(최대 366일)의 근무일을 근무표(월)별로 묶어 근무 시간과 함께 반환합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "기간 근무일 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = WorkMonthResponseDto.class)),
+                            examples = @ExampleObject(
+                                    name = "기간 근무일 조회 예시",
+                                    value = """
+                                        [
+                                          {
+                                            "year": "2025",
+                                            "month": "7",
+                                            "calendarName": "병원 근무표",
+                                            "workGroup": "1조",
+                                            "workTimes": {
+                                              "D": { "startTime": "08:00", "endTime": "16:00" },
+                                              "E": { "startTime": "16:00", "endTime": "00:00" },
+                                              "N": { "startTime": "00:00", "endTime": "08:00" }
+                                            },
+                                            "days": [
+                                              { "day": "30", "workTypeName": "오후" },
+                                              { "day": "31", "workTypeName": "야간" }
+                                            ]
+                                          },
+                                          {
+                                            "year": "2025",
+                                            "month": "8",
+                                            "calendarName": "병원 근무표",
+                                            "workGroup": "1조",
+                                            "workTimes": {
+                                              "D": { "startTime": "08:00", "endTime": "16:00" },
+                                              "E": { "startTime": "16:00", "endTime": "00:00" },
+                                              "N": { "startTime": "00:00", "endTime": "08:00" }
+                                            },
+                                            "days": [
+                                              { "day": "1", "workTypeName": "휴무" }
+                                            ]
+                                          }
+                                        ]
+                                        """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 기간",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(name = "INVALID_DATE_RANGE", value = """
+                                    {
+                                      "code": "INVALID_DATE_RANGE",
+                                      "message": "조회 기간이 올바르지 않습니다."
+                                    }
+                                    """)
+                    ))
+    })
+    @GetMapping("/range")
+    public ResponseEntity<SuccessResponse<List<WorkMonthResponseDto>>> getWorkDaysByRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<WorkMonthResponseDto> response = workCalendarService.getWorkDaysByRange(from, to);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.DATA_FETCHED, response));
+    }
+
+    @Operation(summary = "근무표 변경 조회",
+            description = "since 버전 이후 바뀐 날짜만 반환합니다. 응답의 version 을 저장해 두었다가 다음 요청의 since 로 보내면 되고, "
+                    + "변경이 없으면 days 가 비어 있습니다. fullResync 가 true 면 전체 근무표를 다시 조회해야 합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ApiResponse(responseCode = "200", description = "변경 조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = WorkCalendarChangesResDto.class),
+                    examples = @ExampleObject(value = """
+                            {
+                              "version": 42,
+                              "fullResync": false,
+                              "days": [
+                                { "date": "2025-07-01", "workType": "NIGHT" },
+                                { "date": "2025-07-02", "workType": null }
+                              ]
+                            }
+                            """)))
+    @GetMapping("/changes")
+    public ResponseEntity<SuccessResponse<WorkCalendarChangesResDto>> getChanges(
+            @RequestParam(defaultValue = "0") long since
+    ) {
+        WorkCalendarChangesResDto response = workCalendarService.getChangesSince(since);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.DATA_FETCHED, response));
+    }
+
+    @Operation(summary = "근무조 근무 현황 조회", description = "근무조 구성원 전체의 기간(최대 7일) 근무 유형을 반환합니다. 초대 코드로 근무조에 가입한 구성원만 조회할 수 있습니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "근무 현황 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WorkRosterResDto.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "workGroupId": 1,
+                                      "workGroup": "내과 병동 1조",
+                                      "members": [
+                                        {
+                                          "memberId": 1,
+                                          "nickname": "김간호",
+                                          "profileImageUrl": null,
+                                          "days": [ { "date": "2025-07-01", "workType": "DAY" } ]
+                                        },
+                                        {
+                                          "memberId": 2,
+                                          "nickname": "이간호",
+                                          "profileImageUrl": null,
+                                          "days": [ { "date": "2025-07-01", "workType": "NIGHT" } ]
+                                        }
+                                      ]
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 기간",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(name = "INVALID_DATE_RANGE", value = """
+                                    {
+                                      "code": "INVALID_DATE_RANGE",
+                                      "message": "조회 기간이 올바르지 않습니다."
+                                    }
+                                    """)
+                    )),
+            @ApiResponse(responseCode = "403", description = "근무조 구성원이 아님",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(name = "WORK_GROUP_FORBIDDEN", value = """
+                                    {
+                                      "code": "WORK_GROUP_FORBIDDEN",
+                                      "message": "해당 근무조의 근무 현황을 조회할 권한이 없습니다."
+                                    }
+                                    """)
+                    ))
+    })
+    @GetMapping("/roster")
+    public ResponseEntity<SuccessResponse<WorkRosterResDto>> getRoster(
+            @RequestParam Long workGroupId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        WorkRosterResDto response = workRosterService.getRoster(workGroupId, from, to != null ? to : from);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.DATA_FETCHED, response));
+    }
+
+    @Operation(summary = "ICS 근무표 가져오기",
+            description = "병원 시스템 등에서 내보낸 iCalendar(ICS) 파일을 근무표로 저장합니다. "
+                    + "일정 시작 시간을 workTimes 의 근무 시작 시간과 비교해 근무 유형을 정하고, 종일 일정은 휴일로 저장합니다. "
+                    + "반복 일정(RRULE, RDATE, EXRULE)이 있는 파일은 거부합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ErrorApiResponses.CreateWorkCalendar
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "가져오기 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WorkCalendarImportResDto.class),
+                            examples = @ExampleObject(value = """
+                                    { "importedMonths": 24, "importedDays": 730, "skippedEvents": 3 }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 ICS 파일",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(name = "INVALID_ICS_FILE", value = """
+                                            {
+                                              "code": "INVALID_ICS_FILE",
+                                              "message": "ICS 파일 형식이 올바르지 않습니다."
+                                            }
+                                            """),
+                                    @ExampleObject(name = "ICS_RECURRENCE_NOT_SUPPORTED", value = """
+                                            {
+                                              "code": "ICS_RECURRENCE_NOT_SUPPORTED",
+                                              "message": "반복 일정(RRULE, RDATE, EXRULE)은 지원하지 않습니다. 반복을 펼친 ICS 파일을 사용해 주세요."
+                                            }
+                                            """)
+                            }
+                    ))
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<SuccessResponse<WorkCalendarImportResDto>> importWorkCalendar(
+            @Valid @RequestPart("request") WorkCalendarImportDto request,
+            @RequestPart("file") MultipartFile file
+    ) throws IOException {
+        Long memberId = AuthService.getCurrentUserId();
+
+        try (InputStream ics = file.getInputStream()) {
+            WorkCalendarImportResDto response = workCalendarImportService.importIcs(memberId, request, ics);
+            return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_CREATED, response));
+        }
+    }
+
+    @Operation(summary = "근무 기록 내보내기", description = "회원의 전체 근무 기록을 CSV 또는 iCalendar(ICS) 파일로 내려받습니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ApiResponse(responseCode = "200", description = "근무 기록 파일",
+            content = {
+                    @Content(mediaType = "text/csv", examples = @ExampleObject(value = """
+                            date,workType,workTypeName,startTime,endTime
+                            2025-07-01,EVENING,오후,16:00,00:00
+                            2025-07-02,OFF,휴일,,
+                            """)),
+                    @Content(mediaType = "text/calendar")
+            })
+    @GetMapping("/export")
+    public void exportWorkCalendar(
+            @RequestParam(defaultValue = "CSV") ShiftExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        Long memberId = AuthService.getCurrentUserId();
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("shifts." + format.getExtension())
+                .build()
+                .toString());
+
+        // 응답 스트림에 바로 기록 (전체 기록을 메모리에 올리지 않음)
+        shiftHistoryExporter.export(memberId, format, response.getWriter());
+    }
+
     @Operation(summary = "근무일 수정", description = "특정 연도와 월의 근무 일정을 수정합니다.")
     @SuccessApiResponses.UpdateCalendar
     @ErrorApiResponses.Common
@@ -181,6 +427,59 @@ public class WorkCalendarController {
     }
 
 
+    @Operation(summary = "근무표 수정 이력 조회", description = "특정 연도와 월 근무표의 수정 이력을 최신순으로 반환합니다. 가장 큰 이력 번호가 현재 근무표입니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ErrorApiResponses.UpdateWorkCalendar
+    @ApiResponse(responseCode = "200", description = "수정 이력 조회 성공",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = WorkCalendarRevisionResDto.class)),
+                    examples = @ExampleObject(value = """
+                            [
+                              { "revision": 3, "changedDays": 2, "createdAt": "2025-07-08T21:10:00" },
+                              { "revision": 2, "changedDays": 5, "createdAt": "2025-07-03T09:30:00" },
+                              { "revision": 1, "changedDays": 31, "createdAt": "2025-06-25T18:00:00" }
+                            ]
+                            """)))
+    @GetMapping("/revisions")
+    public ResponseEntity<SuccessResponse<List<WorkCalendarRevisionResDto>>> getRevisions(
+            @RequestParam String year,
+            @RequestParam String month
+    ) {
+        List<WorkCalendarRevisionResDto> response = workCalendarService.getRevisions(year, month);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.DATA_FETCHED, response));
+    }
+
+    @Operation(summary = "근무표 되돌리기",
+            description = "근무표를 지정한 수정 이력 시점으로 되돌립니다. revision 을 생략하면 바로 이전 이력으로 되돌립니다(실행 취소). "
+                    + "되돌린 결과도 새 이력으로 저장되므로 다시 되돌릴 수 있습니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ErrorApiResponses.UpdateWorkCalendar
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "근무표 복원 성공"),
+            @ApiResponse(responseCode = "404", description = "수정 이력 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(name = "REVISION_NOT_FOUND", value = """
+                                    {
+                                      "code": "REVISION_NOT_FOUND",
+                                      "message": "해당 근무표 수정 이력을 찾을 수 없습니다."
+                                    }
+                                    """)
+                    ))
+    })
+    @PostMapping("/restore")
+    public ResponseEntity<SuccessResponse<Void>> restoreWorkCalendar(
+            @RequestParam String year,
+            @RequestParam String month,
+            @RequestParam(required = false) Integer revision
+    ) {
+        workCalendarService.restoreWorkCalendar(year, month, revision);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_RESTORED));
+    }
+
     @Operation(summary = "근무표 삭제", description = "특정 연도와 월의 근무표를 삭제합니다.")
     @SuccessApiResponses.DeleteCalendar
     @ErrorApiResponses.Common
@@ -195,4 +494,18 @@ public class WorkCalendarController {
         return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_DELETED));
     }
 
+    @Operation(summary = "기간 근무표 삭제", description = "fromYear ~ toYear 기간의 모든 근무표를 한 번에 삭제합니다.")
+    @SuccessApiResponses.DeleteCalendar
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ErrorApiResponses.DeleteWorkCalendar
+    @DeleteMapping(params = {"fromYear", "toYear"})
+    public ResponseEntity<SuccessResponse<Void>> deleteWorkCalendars(
+            @RequestParam String fromYear,
+            @RequestParam String toYear
+    ){
+        workCalendarService.deleteWorkCalendars(fromYear, toYear);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_DELETED));
+    }
+
 }
@@ -0,0 +1,82 @@
+package com.offnal.shifterz.work.controller;
+
+import com.offnal.shifterz.global.exception.ErrorApiResponses;
+import com.offnal.shifterz.global.exception.ErrorResponse;
+import com.offnal.shifterz.global.response.SuccessCode;
+import com.offnal.shifterz.global.response.SuccessResponse;
+import com.offnal.shifterz.work.dto.WorkGroupJoinRequestDto;
+import com.offnal.shifterz.work.dto.WorkGroupRequestDto;
+import com.offnal.shifterz.work.dto.WorkGroupResDto;
+import com.offnal.shifterz.work.service.WorkGroupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/works/groups")
+@RequiredArgsConstructor
+@Tag(name = "근무조", description = "근무조를 만들고 초대 코드로 가입합니다. 같은 근무조 구성원끼리만 근무 현황을 볼 수 있습니다.")
+public class WorkGroupController {
+
+    private final WorkGroupService workGroupService;
+
+    @Operation(summary = "근무조 생성", description = "근무조를 만들고 초대 코드를 발급합니다. 만든 회원은 바로 구성원이 됩니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @PostMapping
+    public ResponseEntity<SuccessResponse<WorkGroupResDto>> createGroup(
+            @RequestBody @Valid WorkGroupRequestDto requestDto
+    ) {
+        WorkGroupResDto response = workGroupService.createGroup(requestDto);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.WORK_GROUP_CREATED, response));
+    }
+
+    @Operation(summary = "근무조 가입", description = "초대 코드로 근무조에 가입합니다. 이미 구성원이면 근무조 정보만 반환합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ApiResponse(responseCode = "404", description = "초대 코드에 해당하는 근무조 없음",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class),
+                    examples = @ExampleObject(name = "WORK_GROUP_NOT_FOUND", value = """
+                            {
+                              "code": "WORK_GROUP_NOT_FOUND",
+                              "message": "존재하지 않거나 가입하지 않은 근무조입니다."
+                            }
+                            """)
+            ))
+    @PostMapping("/join")
+    public ResponseEntity<SuccessResponse<WorkGroupResDto>> joinGroup(
+            @RequestBody @Valid WorkGroupJoinRequestDto requestDto
+    ) {
+        WorkGroupResDto response = workGroupService.joinGroup(requestDto);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.WORK_GROUP_JOINED, response));
+    }
+
+    @Operation(summary = "가입한 근무조 조회", description = "가입한 근무조 목록을 이름 순으로 반환합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @GetMapping
+    public ResponseEntity<SuccessResponse<List<WorkGroupResDto>>> getMyGroups() {
+        List<WorkGroupResDto> response = workGroupService.getMyGroups();
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.DATA_FETCHED, response));
+    }
+
+    @Operation(summary = "근무조 탈퇴", description = "근무조에서 탈퇴합니다. 탈퇴하면 구성원의 근무 현황을 볼 수 없습니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @DeleteMapping("/{workGroupId}")
+    public ResponseEntity<SuccessResponse<Void>> leaveGroup(@PathVariable Long workGroupId) {
+        workGroupService.leaveGroup(workGroupId);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.WORK_GROUP_LEFT));
+    }
+}
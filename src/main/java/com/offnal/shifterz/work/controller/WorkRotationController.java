@@ -0,0 +1,99 @@
+package com.offnal.shifterz.work.controller;
+
+import com.offnal.shifterz.global.exception.ErrorApiResponses;
+import com.offnal.shifterz.global.exception.ErrorResponse;
+import com.offnal.shifterz.global.response.SuccessCode;
+import com.offnal.shifterz.global.response.SuccessResponse;
+import com.offnal.shifterz.work.dto.WorkRotationOverrideDto;
+import com.offnal.shifterz.work.dto.WorkRotationRequestDto;
+import com.offnal.shifterz.work.dto.WorkRotationResDto;
+import com.offnal.shifterz.work.service.WorkRotationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/works/rotation")
+@RequiredArgsConstructor
+@Tag(name = "순환 근무", description = "고정 순환 패턴 근무를 등록, 조회, 수정, 삭제합니다. 월별 근무표가 없는 달의 근무일은 순환 패턴으로 계산됩니다.")
+public class WorkRotationController {
+
+    private final WorkRotationService workRotationService;
+
+    @Operation(summary = "순환 근무 등록", description = "순환 패턴과 기준일, 근무 시간을 등록합니다. 회원당 하나만 등록할 수 있습니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @ApiResponse(responseCode = "400", description = "이미 등록된 순환 근무",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class),
+                    examples = @ExampleObject(name = "ROTATION_DUPLICATION", value = """
+                            {
+                              "code": "ROTATION_DUPLICATION",
+                              "message": "이미 등록된 순환 근무가 있습니다."
+                            }
+                            """)
+            ))
+    @PostMapping
+    public ResponseEntity<SuccessResponse<Void>> createRotation(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "순환 근무 등록 예시",
+                            value = """
+                            {
+                              "calendarName": "병원 근무표",
+                              "workGroup": "1조",
+                              "workTimes": {
+                                "D": { "startTime": "08:00", "endTime": "16:00" },
+                                "E": { "startTime": "16:00", "endTime": "00:00" },
+                                "N": { "startTime": "00:00", "endTime": "08:00" }
+                              },
+                              "pattern": "DDEENN--",
+                              "anchorDate": "2025-07-01"
+                            }
+                            """
+                    )
+            ))
+            @RequestBody @Valid WorkRotationRequestDto requestDto
+    ) {
+        workRotationService.createRotation(requestDto);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_CREATED));
+    }
+
+    @Operation(summary = "순환 근무 조회", description = "등록된 순환 패턴과 기준일, 근무 시간을 반환합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @GetMapping
+    public ResponseEntity<SuccessResponse<WorkRotationResDto>> getRotation() {
+        WorkRotationResDto response = workRotationService.getRotation();
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.DATA_FETCHED, response));
+    }
+
+    @Operation(summary = "예외 근무일 수정", description = "패턴과 다르게 근무하는 날짜를 저장합니다. 패턴과 같은 근무 유형을 보내면 예외가 해제됩니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @PatchMapping("/overrides")
+    public ResponseEntity<SuccessResponse<Void>> updateOverrides(
+            @RequestBody @Valid WorkRotationOverrideDto overrideDto
+    ) {
+        workRotationService.updateOverrides(overrideDto);
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_UPDATED));
+    }
+
+    @Operation(summary = "순환 근무 삭제", description = "순환 근무와 예외 근무일을 모두 삭제합니다.")
+    @ErrorApiResponses.Common
+    @ErrorApiResponses.Auth
+    @DeleteMapping
+    public ResponseEntity<SuccessResponse<Void>> deleteRotation() {
+        workRotationService.deleteRotation();
+        return ResponseEntity.ok(SuccessResponse.success(SuccessCode.CALENDAR_DELETED));
+    }
+}
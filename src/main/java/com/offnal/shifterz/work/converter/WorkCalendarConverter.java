@@ -1,64 +1,247 @@
 package com.offnal.shifterz.work.converter;
 
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.domain.ScheduledDay;
+import com.offnal.shifterz.work.domain.ShiftCode;
 import com.offnal.shifterz.work.domain.WorkCalendar;
 import com.offnal.shifterz.work.domain.WorkInstance;
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkSchedule;
 import com.offnal.shifterz.work.domain.WorkTime;
 import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkCalendarChangesResDto;
 import com.offnal.shifterz.work.dto.WorkCalendarRequestDto;
 import com.offnal.shifterz.work.dto.WorkCalendarUnitDto;
 import com.offnal.shifterz.work.dto.WorkDayResponseDto;
+import com.offnal.shifterz.work.dto.WorkMonthResponseDto;
+import com.offnal.shifterz.work.dto.WorkRotationRequestDto;
+import com.offnal.shifterz.work.dto.WorkRotationResDto;
 import com.offnal.shifterz.work.dto.WorkTimeDto;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeRow;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 public class WorkCalendarConverter {
 
-    // WorkCalendarRequestDto -> WorkCalendar
-    public static WorkCalendar toEntity(Long memberId, WorkCalendarRequestDto workCalendarRequestDto, WorkCalendarUnitDto unitDto) {
+    // 근무 유형 기호 -> 근무 유형 (알 수 없는 기호나 null 이면 INVALID_REQUEST)
+    public static WorkTimeType toWorkTimeType(String symbol) {
+        try {
+            return WorkTimeType.fromSymbol(symbol);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
 
+    // 근무 시간 DTO -> 근무 유형 기호별 근무 시간 (기호나 시간 형식이 잘못되면 INVALID_REQUEST)
+    public static Map<String, WorkTime> toWorkTimeMap(Map<String, WorkTimeDto> workTimes) {
         Map<String, WorkTime> workTimeMap = new HashMap<>();
-        for (Map.Entry<String, WorkTimeDto> entry : workCalendarRequestDto.getWorkTimes().entrySet()) {
+        for (Map.Entry<String, WorkTimeDto> entry : workTimes.entrySet()) {
             String symbol = entry.getKey();
             WorkTimeDto workTimeDto = entry.getValue();
 
-            WorkTimeType timeType = WorkTimeType.fromSymbol(symbol);
-            LocalTime startTime = LocalTime.parse(workTimeDto.getStartTime());
-            LocalTime endTime = LocalTime.parse(workTimeDto.getEndTime());
+            WorkTimeType timeType = toWorkTimeType(symbol);
+            try {
+                LocalTime startTime = LocalTime.parse(workTimeDto.getStartTime());
+                LocalTime endTime = LocalTime.parse(workTimeDto.getEndTime());
+                workTimeMap.put(symbol, WorkTime.of(timeType, startTime, endTime));
+            } catch (DateTimeException | NullPointerException e) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+        }
+        return workTimeMap;
+    }
 
-            WorkTime workTime = WorkTime.of(timeType, startTime, endTime);
-            workTimeMap.put(symbol, workTime);
+    // 근무표 단위 연/월 -> YearMonth ("07" 과 "7" 은 같은 달)
+    public static YearMonth toYearMonth(WorkCalendarUnitDto unitDto) {
+        try {
+            return YearMonth.of(Integer.parseInt(unitDto.getYear()), Integer.parseInt(unitDto.getMonth()));
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
+    }
+
+    // WorkCalendarRequestDto -> WorkCalendar (연/월은 앞의 0 없이 저장)
+    public static WorkCalendar toEntity(Long memberId, WorkCalendarRequestDto workCalendarRequestDto,
+                                        WorkCalendarUnitDto unitDto, Long workTimeProfileId) {
+
+        YearMonth yearMonth = toYearMonth(unitDto);
 
         return WorkCalendar.builder()
                 .calendarName(workCalendarRequestDto.getCalendarName())
-                .year(unitDto.getYear())
-                .month(unitDto.getMonth())
+                .year(String.valueOf(yearMonth.getYear()))
+                .month(String.valueOf(yearMonth.getMonthValue()))
+                .startDate(yearMonth.atDay(1))
                 .memberId(memberId)
                 .workGroup(workCalendarRequestDto.getWorkGroup())
-                .workTimes(workTimeMap)
+                .workTimeProfileId(workTimeProfileId)
                 .build();
     }
 
     // WorkCalendarRequestDto -> List<WorkInstance>
     public static List<WorkInstance> toWorkInstances(WorkCalendarUnitDto unitDto, WorkCalendar calendar) {
         return unitDto.getShifts().entrySet().stream()
-                .map(entry -> WorkInstance.builder()
-                        .workDay(entry.getKey())
-                        .workTimeType(WorkTimeType.fromSymbol(entry.getValue()))
-                        .workCalendar(calendar)
-                        .build())
+                .map(entry -> toWorkInstance(calendar, entry.getKey(), toWorkTimeType(entry.getValue())))
                 .toList();
 
     }
-    public static List<WorkDayResponseDto> toDayResponseDtoList(List<WorkInstance> instances) {
-        return instances.stream()
-                .map(instance -> WorkDayResponseDto.builder()
-                        .day(String.valueOf(Integer.parseInt(instance.getWorkDay())))
-                        .workTypeName(instance.getWorkTimeType().getKoreanName())
-                        .build())
+
+    // 근무표의 하루 근무 (해당 월에 없는 날짜면 INVALID_REQUEST)
+    public static WorkInstance toWorkInstance(WorkCalendar calendar, String day, WorkTimeType workTimeType) {
+        LocalDate workDate;
+        try {
+            workDate = calendar.toYearMonth().atDay(Integer.parseInt(day));
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        return WorkInstance.builder()
+                .workDay(day)
+                .workDate(workDate)
+                .memberId(calendar.getMemberId())
+                .workTimeType(workTimeType)
+                .workCalendar(calendar)
+                .build();
+    }
+
+    // 날짜별 근무 기호(shifts) -> 날짜(일)별 근무 유형 (해당 월에 없는 날짜면 INVALID_REQUEST)
+    public static Map<Integer, WorkTimeType> toDayTypeMap(Map<String, String> shifts, YearMonth yearMonth) {
+        Map<Integer, WorkTimeType> days = new TreeMap<>();
+        try {
+            for (Map.Entry<String, String> entry : shifts.entrySet()) {
+                int day = Integer.parseInt(entry.getKey());
+                if (!yearMonth.isValidDay(day)) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                days.put(day, toWorkTimeType(entry.getValue()));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        return days;
+    }
+
+    // 날짜(일)별 근무 유형 -> 날짜별 근무 유형 (변경 기록용)
+    public static Map<LocalDate, WorkTimeType> toDateTypeMap(Map<Integer, WorkTimeType> days, YearMonth yearMonth) {
+        Map<LocalDate, WorkTimeType> dates = new TreeMap<>();
+        days.forEach((day, type) -> dates.put(yearMonth.atDay(day), type));
+        return dates;
+    }
+
+    // 날짜별 근무 기호(shifts) -> ShiftCode (해당 월에 없는 날짜면 INVALID_REQUEST)
+    public static String toShiftCode(Map<String, String> shifts, YearMonth yearMonth) {
+        try {
+            Map<Integer, WorkTimeType> days = new HashMap<>();
+            for (Map.Entry<String, String> entry : shifts.entrySet()) {
+                days.put(Integer.parseInt(entry.getKey()), toWorkTimeType(entry.getValue()));
+            }
+            return ShiftCode.encode(days, yearMonth.lengthOfMonth());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    public static List<WorkDayResponseDto> toDayResponseDtoList(List<ScheduledDay> days) {
+        return days.stream()
+                .map(WorkCalendarConverter::toDayResponseDto)
                 .collect(Collectors.toList());
     }
+
+    // 날짜순 근무일 -> 근무표(월)별 응답 (근무 시간은 근무표마다 한 번만 포함, 순환 근무는 월마다 나눔)
+    public static List<WorkMonthResponseDto> toMonthResponseDtoList(List<ScheduledDay> days) {
+        Map<MonthKey, List<ScheduledDay>> daysByMonth = new LinkedHashMap<>();
+        for (ScheduledDay day : days) {
+            daysByMonth.computeIfAbsent(new MonthKey(day.schedule(), YearMonth.from(day.date())), key -> new ArrayList<>())
+                    .add(day);
+        }
+
+        return daysByMonth.entrySet().stream()
+                .map(entry -> WorkMonthResponseDto.builder()
+                        .year(String.valueOf(entry.getKey().yearMonth().getYear()))
+                        .month(String.valueOf(entry.getKey().yearMonth().getMonthValue()))
+                        .calendarName(entry.getKey().schedule().getCalendarName())
+                        .workGroup(entry.getKey().schedule().getWorkGroup())
+                        .workTimes(toWorkTimeDtoMap(entry.getValue().get(0).workTimes()))
+                        .days(toDayResponseDtoList(entry.getValue()))
+                        .build())
+                .toList();
+    }
+
+    private record MonthKey(WorkSchedule schedule, YearMonth yearMonth) {
+    }
+
+    private static WorkDayResponseDto toDayResponseDto(ScheduledDay day) {
+        return WorkDayResponseDto.builder()
+                .day(String.valueOf(day.date().getDayOfMonth()))
+                .workTypeName(day.type().getKoreanName())
+                .build();
+    }
+
+    // 버전순 변경 기록 -> 날짜별 마지막 변경 (기록이 없으면 since 버전 그대로)
+    public static WorkCalendarChangesResDto toChangesResDto(long since, List<WorkCalendarChangeRow> rows) {
+        long version = since;
+        Map<LocalDate, WorkTimeType> latest = new TreeMap<>();
+        for (WorkCalendarChangeRow row : rows) {
+            latest.put(row.workDate(), row.workTimeType());
+            version = row.version();
+        }
+
+        return WorkCalendarChangesResDto.builder()
+                .version(version)
+                .fullResync(false)
+                .days(latest.entrySet().stream()
+                        .map(entry -> WorkCalendarChangesResDto.ChangedDay.builder()
+                                .date(entry.getKey())
+                                .workType(entry.getValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    // WorkRotationRequestDto -> WorkRotation
+    public static WorkRotation toRotation(Long memberId, WorkRotationRequestDto requestDto, Long workTimeProfileId) {
+        if (!requestDto.isEndDateValid()) {
+            throw new CustomException(ErrorCode.ROTATION_INVALID_END_DATE);
+        }
+
+        return WorkRotation.builder()
+                .memberId(memberId)
+                .calendarName(requestDto.getCalendarName())
+                .workGroup(requestDto.getWorkGroup())
+                .pattern(requestDto.getPattern())
+                .anchorDate(requestDto.getAnchorDate())
+                .endDate(requestDto.getEndDate())
+                .workTimeProfileId(workTimeProfileId)
+                .build();
+    }
+
+    public static WorkRotationResDto toRotationResDto(WorkRotation rotation, Map<String, WorkTime> workTimes) {
+        return WorkRotationResDto.builder()
+                .calendarName(rotation.getCalendarName())
+                .workGroup(rotation.getWorkGroup())
+                .workTimes(toWorkTimeDtoMap(workTimes))
+                .pattern(rotation.getPattern())
+                .anchorDate(rotation.getAnchorDate())
+                .endDate(rotation.getEndDate())
+                .build();
+    }
+
+    private static Map<String, WorkTimeDto> toWorkTimeDtoMap(Map<String, WorkTime> workTimes) {
+        Map<String, WorkTimeDto> workTimeDtoMap = new HashMap<>();
+        for (Map.Entry<String, WorkTime> entry : workTimes.entrySet()) {
+            WorkTime workTime = entry.getValue();
+            workTimeDtoMap.put(entry.getKey(),
+                    new WorkTimeDto(workTime.getStartTime().toString(), workTime.getEndTime().toString()));
+        }
+        return workTimeDtoMap;
+    }
 }
@@ -0,0 +1,18 @@
+package com.offnal.shifterz.work.domain;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 저장 방식과 상관없이 읽어 들인 하루 근무 정보
+ */
+public record ScheduledDay(LocalDate date, WorkTimeType type, WorkSchedule schedule, Map<String, WorkTime> workTimes) {
+
+    // 해당 근무의 근무 시간 (휴일이거나 근무표에 시간 정보가 없으면 null)
+    public WorkTime workTime() {
+        if (type == WorkTimeType.OFF) {
+            return null;
+        }
+        return workTimes.get(type.getKey());
+    }
+}
@@ -0,0 +1,49 @@
+package com.offnal.shifterz.work.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 한 달 근무표를 날짜별 기호 한 글자씩 이어 붙인 문자열로 변환한다.
+ * 예) "EEN-D...": 1일 E, 2일 E, 3일 N, 4일 휴일, 5일 D, 6~8일 근무 정보 없음
+ */
+public final class ShiftCode {
+
+    // 근무 정보가 없는 날
+    public static final char EMPTY = '.';
+
+    private ShiftCode() {
+    }
+
+    // 날짜(일) -> 근무 유형 맵을 해당 월 길이의 문자열로 변환 (범위를 벗어난 날짜면 IllegalArgumentException)
+    public static String encode(Map<Integer, WorkTimeType> days, int lengthOfMonth) {
+        char[] code = new char[lengthOfMonth];
+        Arrays.fill(code, EMPTY);
+        for (Map.Entry<Integer, WorkTimeType> entry : days.entrySet()) {
+            int day = entry.getKey();
+            if (day < 1 || day > lengthOfMonth) {
+                throw new IllegalArgumentException("Invalid day of month: " + day);
+            }
+            code[day - 1] = entry.getValue().getSymbol();
+        }
+        return new String(code);
+    }
+
+    // 특정 날짜(일)의 근무 유형 (근무 정보가 없으면 null)
+    public static WorkTimeType typeAt(String code, int day) {
+        if (code == null || day < 1 || day > code.length()) {
+            return null;
+        }
+        return WorkTimeType.fromSymbolOrNull(code.charAt(day - 1));
+    }
+
+    // 특정 날짜(일)의 근무 유형 변경 (type 이 null 이면 근무 정보 없음)
+    public static String with(String code, int day, WorkTimeType type) {
+        if (day < 1 || day > code.length()) {
+            throw new IllegalArgumentException("Invalid day of month: " + day);
+        }
+        char[] chars = code.toCharArray();
+        chars[day - 1] = type != null ? type.getSymbol() : EMPTY;
+        return new String(chars);
+    }
+}
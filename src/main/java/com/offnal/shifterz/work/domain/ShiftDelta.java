@@ -0,0 +1,42 @@
+package com.offnal.shifterz.work.domain;
+
+import java.util.Map;
+
+/**
+ * 근무표 수정 이력의 날짜별 변경분을 "날짜(2자리) + 기호" 를 이어 붙인 문자열로 변환한다.
+ * 예) "03N15-31.": 3일 N, 15일 휴일, 31일 근무 정보 삭제 (기호는 ShiftCode 와 같음)
+ */
+public final class ShiftDelta {
+
+    private static final int ENTRY_LENGTH = 3;
+
+    private ShiftDelta() {
+    }
+
+    // 날짜(일) -> 변경 후 근무 유형 (null 이면 근무 정보 삭제)
+    public static String encode(Map<Integer, WorkTimeType> changes) {
+        StringBuilder delta = new StringBuilder(changes.size() * ENTRY_LENGTH);
+        for (Map.Entry<Integer, WorkTimeType> entry : changes.entrySet()) {
+            int day = entry.getKey();
+            if (day < 1 || day > 31) {
+                throw new IllegalArgumentException("Invalid day of month: " + day);
+            }
+            if (day < 10) {
+                delta.append('0');
+            }
+            delta.append(day);
+            delta.append(entry.getValue() != null ? entry.getValue().getSymbol() : ShiftCode.EMPTY);
+        }
+        return delta.toString();
+    }
+
+    // ShiftCode 에 변경분 적용
+    public static String applyTo(String code, String delta) {
+        String result = code;
+        for (int i = 0; i + ENTRY_LENGTH <= delta.length(); i += ENTRY_LENGTH) {
+            int day = Integer.parseInt(delta, i, i + 2, 10);
+            result = ShiftCode.with(result, day, WorkTimeType.fromSymbolOrNull(delta.charAt(i + 2)));
+        }
+        return result;
+    }
+}
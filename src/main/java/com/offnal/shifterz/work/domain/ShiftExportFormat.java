@@ -0,0 +1,25 @@
+package com.offnal.shifterz.work.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "근무 기록 내보내기 형식", example = "CSV")
+public enum ShiftExportFormat {
+    CSV("text/csv", "csv"),
+    ICS("text/calendar", "ics");
+
+    private final String contentType;
+    private final String extension;
+
+    ShiftExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
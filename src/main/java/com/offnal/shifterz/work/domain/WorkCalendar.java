@@ -5,17 +5,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Builder
-@Table(name = "work_calendar")
-public class WorkCalendar {
+@Table(name = "work_calendar", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_calendar_member_start_date", columnNames = {"member_id", "start_date"})
+})
+public class WorkCalendar implements WorkSchedule {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,10 +32,49 @@ public class WorkCalendar {
 
     private String month;
 
-    @Builder.Default
-    @ElementCollection
-    @CollectionTable(name = "work_times", joinColumns = @JoinColumn(name = "work_sch_id"))
-    private Map<String, WorkTime> workTimes = new HashMap<>();
+    // 해당 월의 1일 (기간 조회용)
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    // 근무 시간 프로필 (WorkTimeProfile, 같은 근무 시간이면 공유)
+    @Column(name = "work_time_profile_id")
+    private Long workTimeProfileId;
 
     private String workGroup; // 유저의 근무 조 (예: A조, B조)
+
+    // 근무일 저장 방식
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'ROWS'")
+    @Column(nullable = false, length = 10)
+    private WorkCalendarStorage storage = WorkCalendarStorage.ROWS;
+
+    // PACKED 저장 시 날짜별 근무 기호 (ShiftCode 형식)
+    @Column(length = 31)
+    private String shiftCode;
+
+    // 현재 수정 이력 번호 (등록 시 1, 이력 기록 전에 저장된 근무표는 0)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int revision = 1;
+
+    public YearMonth toYearMonth() {
+        return YearMonth.of(Integer.parseInt(year), Integer.parseInt(month));
+    }
+
+    // 근무일을 압축 컬럼(shiftCode) 방식으로 전환
+    public void pack(String shiftCode) {
+        this.storage = WorkCalendarStorage.PACKED;
+        this.shiftCode = shiftCode;
+    }
+
+    public void changeShiftCode(String shiftCode) {
+        this.shiftCode = shiftCode;
+    }
+
+    // 다음 수정 이력 번호 발급
+    public int nextRevision() {
+        return ++revision;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 근무표 변경 기록 (변경 한 번 = 회원별 버전 하나, 바뀐 날짜마다 한 행)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_calendar_change", indexes = {
+        @Index(name = "idx_work_calendar_change_member_version", columnList = "member_id, version")
+})
+public class WorkCalendarChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    //회원별로 1씩 증가하는 변경 버전
+    private Long version;
+
+    //바뀐 날짜 (null 이면 날짜를 특정할 수 없는 변경 -> 전체 근무표 다시 받기)
+    @Column(name = "work_date")
+    private LocalDate workDate;
+
+    //변경 후 근무 유형 (근무표 삭제로 근무 정보가 없어졌으면 null)
+    @Enumerated(EnumType.STRING)
+    private WorkTimeType workTimeType;
+}
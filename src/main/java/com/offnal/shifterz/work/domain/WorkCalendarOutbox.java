@@ -0,0 +1,56 @@
+package com.offnal.shifterz.work.domain;
+
+import com.offnal.shifterz.work.event.WorkCalendarOutboxEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 근무표 변경 트랜잭션에서 함께 저장하는 전달 대기 이벤트 (전달되면 삭제, 전달 중에는 claimedUntil 까지 한 노드가 점유)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_calendar_outbox", indexes = {
+        @Index(name = "idx_work_calendar_outbox_claim_token", columnList = "claim_token"),
+        @Index(name = "idx_work_calendar_outbox_claimed_until", columnList = "claimed_until, id")
+})
+public class WorkCalendarOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    //변경 기록 버전
+    private Long version;
+
+    //바뀐 날짜 범위 (둘 다 null 이면 전체 기간)
+    private LocalDate fromDate;
+
+    private LocalDate toDate;
+
+    private LocalDateTime createdAt;
+
+    //전달 실패 횟수
+    private int attempts;
+
+    //점유한 전달 배치 (점유하지 않았으면 null)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    //점유 만료 시각 (지나면 다른 노드가 다시 점유, 실패한 이벤트는 재시도 시각)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    public WorkCalendarOutboxEvent toEvent() {
+        return new WorkCalendarOutboxEvent(id, memberId, version, fromDate, toDate, createdAt);
+    }
+}
@@ -0,0 +1,42 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 근무표 수정 이력 (몇 번마다 전체 ShiftCode 스냅샷, 그 사이는 바뀐 날짜만 ShiftDelta 로 저장)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_calendar_revision", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_calendar_revision", columnNames = {"work_calendar_id", "revision"})
+})
+public class WorkCalendarRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "work_calendar_id")
+    private Long workCalendarId;
+
+    //근무표별 이력 번호
+    private int revision;
+
+    //true 면 payload 가 해당 이력의 전체 ShiftCode, false 면 이전 이력 대비 ShiftDelta
+    private boolean snapshot;
+
+    @Column(length = 93)
+    private String payload;
+
+    //이 이력에서 바뀐 날짜 수
+    private int changedDays;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package com.offnal.shifterz.work.domain;
+
+// 근무표의 근무일 저장 방식
+public enum WorkCalendarStorage {
+    // 날짜마다 work_instance 행으로 저장
+    ROWS,
+    // 한 달을 work_calendar.shift_code 한 컬럼(날짜별 기호 문자열)으로 저장
+    PACKED
+}
@@ -0,0 +1,24 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원별 마지막 근무표 변경 버전 (버전 발급 시 행 잠금으로 같은 회원의 변경 순서를 보장)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "work_calendar_version")
+public class WorkCalendarVersion {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    private Long version;
+}
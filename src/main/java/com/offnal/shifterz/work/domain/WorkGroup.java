@@ -0,0 +1,40 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근무 현황을 함께 보는 근무조.
+ * 근무표의 workGroup(자유 입력 이름)과 달리, 초대 코드로 가입한 구성원(WorkGroupMember)만 서로의 근무 현황을 볼 수 있다.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_group", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_group_invite_code", columnNames = "invite_code")
+})
+public class WorkGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String name;
+
+    // 가입용 초대 코드
+    @Column(name = "invite_code", nullable = false, length = 8)
+    private String inviteCode;
+
+    // 만든 회원
+    private Long ownerId;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,35 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 근무조 구성원 (초대 코드로 가입한 회원)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_group_member", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_group_member", columnNames = {"work_group_id", "member_id"})
+}, indexes = {
+        @Index(name = "idx_work_group_member_member", columnList = "member_id")
+})
+public class WorkGroupMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "work_group_id", nullable = false)
+    private Long workGroupId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    private LocalDateTime joinedAt;
+}
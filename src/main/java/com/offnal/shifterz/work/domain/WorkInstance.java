@@ -6,12 +6,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Builder
-@Table(name = "work_instance")
+@Table(name = "work_instance", indexes = {
+        // 근무표 조회의 left join (work_calendar_id = ? and work_date between ? and ?) 범위 조회
+        @Index(name = "idx_work_instance_calendar_date", columnList = "work_calendar_id, work_date")
+})
 public class WorkInstance {
 
     @Id
@@ -21,6 +26,14 @@ public class WorkInstance {
     //근무 날짜
     private String workDay;
 
+    //근무 회원 (날짜 범위 조회용, 근무표의 memberId 와 같음)
+    @Column(name = "member_id")
+    private Long memberId;
+
+    //근무 날짜 (근무표 연/월 + workDay)
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
     //근무 유형
     @Enumerated(EnumType.STRING)
     private WorkTimeType workTimeType;
@@ -29,4 +42,9 @@ public class WorkInstance {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "work_calendar_id")
     private WorkCalendar workCalendar;
+
+    // 근무 유형 변경
+    public void changeWorkTimeType(WorkTimeType workTimeType) {
+        this.workTimeType = workTimeType;
+    }
 }
@@ -0,0 +1,64 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 고정 순환 근무 (ex: "DDEENN--").
+ * 기준일(anchorDate)부터 패턴을 반복한다고 보고 날짜별 근무 유형을 계산하며, 패턴과 다른 날만 WorkRotationOverride 로 저장한다.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_rotation", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_rotation_member", columnNames = "member_id")
+})
+public class WorkRotation implements WorkSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    private String calendarName; // 근무표 이름
+
+    private String workGroup; // 유저의 근무 조 (예: A조, B조)
+
+    // 순환 패턴 (날짜별 근무 기호 D/E/N/-)
+    @Column(nullable = false, length = 62)
+    private String pattern;
+
+    // 패턴 첫 글자에 해당하는 날짜
+    @Column(nullable = false)
+    private LocalDate anchorDate;
+
+    // 마지막 근무일 (null 이면 계속 반복)
+    private LocalDate endDate;
+
+    // 근무 시간 프로필 (WorkTimeProfile, 같은 근무 시간이면 공유)
+    @Column(name = "work_time_profile_id")
+    private Long workTimeProfileId;
+
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(anchorDate) && (endDate == null || !date.isAfter(endDate));
+    }
+
+    // 패턴상 근무 유형 (순환 기간이 아니면 null)
+    public WorkTimeType typeAt(LocalDate date) {
+        if (!covers(date)) {
+            return null;
+        }
+        int index = (int) Math.floorMod(ChronoUnit.DAYS.between(anchorDate, date), (long) pattern.length());
+        return WorkTimeType.fromSymbolOrNull(pattern.charAt(index));
+    }
+}
@@ -0,0 +1,39 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 순환 패턴과 다르게 근무하는 날
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_rotation_override", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_rotation_override_date", columnNames = {"work_rotation_id", "work_date"})
+})
+public class WorkRotationOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "work_rotation_id")
+    private WorkRotation rotation;
+
+    @Column(name = "work_date")
+    private LocalDate workDate;
+
+    @Enumerated(EnumType.STRING)
+    private WorkTimeType workTimeType;
+
+    public void changeWorkTimeType(WorkTimeType workTimeType) {
+        this.workTimeType = workTimeType;
+    }
+}
@@ -0,0 +1,14 @@
+package com.offnal.shifterz.work.domain;
+
+/**
+ * 근무일의 출처 (월별 근무표 또는 순환 근무)
+ */
+public interface WorkSchedule {
+
+    String getCalendarName();
+
+    String getWorkGroup();
+
+    // 근무 시간 프로필 ID (WorkTimeProfileCache 로 근무 시간 조회)
+    Long getWorkTimeProfileId();
+}
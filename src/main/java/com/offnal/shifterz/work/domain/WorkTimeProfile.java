@@ -0,0 +1,47 @@
+package com.offnal.shifterz.work.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 근무 유형별 근무 시간 묶음. 같은 근무 시간을 쓰는 근무표/순환 근무가 한 프로필을 공유하며, 저장 후에는 바뀌지 않는다.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+@Table(name = "work_time_profile", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_work_time_profile_fingerprint", columnNames = "fingerprint")
+})
+public class WorkTimeProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 중복 판별용 정규화 문자열 (ex: "D08:00-16:00|E16:00-00:00|N00:00-08:00")
+    @Column(nullable = false, length = 200)
+    private String fingerprint;
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "work_time_profile_times", joinColumns = @JoinColumn(name = "work_time_profile_id"))
+    @MapKeyColumn(name = "work_times_key") // WorkTimeProfileBatchRepository 가 직접 INSERT 하는 컬럼
+    private Map<String, WorkTime> workTimes = new HashMap<>();
+
+    // 기호 순으로 정렬한 "기호시작-종료" 목록
+    public static String fingerprintOf(Map<String, WorkTime> workTimes) {
+        return new TreeMap<>(workTimes).entrySet().stream()
+                .map(entry -> entry.getKey() + entry.getValue().getStartTime() + "-" + entry.getValue().getEndTime())
+                .collect(Collectors.joining("|"));
+    }
+}
@@ -4,21 +4,33 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "근무 유형", example = "DAY")
 public enum WorkTimeType {
-    DAY("주간"),
-    EVENING("오후"),
-    NIGHT("야간"),
-    OFF("휴일");
+    DAY("주간", 'D'),
+    EVENING("오후", 'E'),
+    NIGHT("야간", 'N'),
+    OFF("휴일", '-');
 
     private final String koreanName;
+    private final char symbol;
 
-    WorkTimeType(String koreanName) {
+    WorkTimeType(String koreanName, char symbol) {
         this.koreanName = koreanName;
+        this.symbol = symbol;
     }
 
     public String getKoreanName() {
         return koreanName;
     }
 
+    // 근무표 기호 (D/E/N/-)
+    public char getSymbol() {
+        return symbol;
+    }
+
+    // 근무 시간(workTimes) 키 (ex: DAY -> "D")
+    public String getKey() {
+        return String.valueOf(symbol);
+    }
+
     public static WorkTimeType fromSymbol(String symbol) {
         return switch (symbol) {
             case "D" -> DAY;
@@ -28,4 +40,15 @@ public enum WorkTimeType {
             default -> throw new IllegalArgumentException("Unknown shift type: " + symbol);
         };
     }
-}
\ No newline at end of file
+
+    // 기호 -> 근무 유형 (해당 없으면 null)
+    public static WorkTimeType fromSymbolOrNull(char symbol) {
+        return switch (symbol) {
+            case 'D' -> DAY;
+            case 'E' -> EVENING;
+            case 'N' -> NIGHT;
+            case '-' -> OFF;
+            default -> null;
+        };
+    }
+}
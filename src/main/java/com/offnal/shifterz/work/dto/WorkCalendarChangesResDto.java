@@ -0,0 +1,34 @@
+package com.offnal.shifterz.work.dto;
+
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class WorkCalendarChangesResDto {
+
+    @Schema(description = "응답에 반영된 마지막 변경 버전 (다음 요청의 since 로 사용)", example = "42")
+    private Long version;
+
+    @Schema(description = "변경이 너무 많거나 순환 근무가 등록/삭제되어 날짜별 변경 대신 전체 근무표를 다시 조회해야 하는지 여부", example = "false")
+    private boolean fullResync;
+
+    @Schema(description = "변경된 날짜 (같은 날짜는 마지막 변경만, 날짜순)")
+    private List<ChangedDay> days;
+
+    @Getter
+    @Builder
+    public static class ChangedDay {
+
+        @Schema(description = "날짜", example = "2025-07-01")
+        private LocalDate date;
+
+        @Schema(description = "변경 후 근무 유형 (근무표가 삭제되어 근무 정보가 없으면 null, 순환 근무가 채우는 날짜는 순환 근무 유형)")
+        private WorkTimeType workType;
+    }
+}
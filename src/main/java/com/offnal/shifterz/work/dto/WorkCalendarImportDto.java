@@ -0,0 +1,35 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkCalendarImportDto {
+
+    @NotEmpty(message = "근무표 이름은 필수입니다.")
+    @NotNull
+    @Schema(description = "근무표 이름")
+    private String calendarName;
+
+    @NotEmpty(message = "근무조는 필수입니다.")
+    @NotNull
+    @Schema(description = "근무조")
+    private String workGroup;
+
+    @Valid
+    @NotEmpty(message = "근무 시간 정보는 필수입니다.")
+    @NotNull
+    @Schema(description = "근무타입별 시간 정보(D/E/N). 일정 시작 시간을 근무 유형으로 변환할 때 사용")
+    private Map<String, WorkTimeDto> workTimes;
+}
@@ -0,0 +1,19 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WorkCalendarImportResDto {
+
+    @Schema(description = "저장된 근무표(월) 수", example = "24")
+    private int importedMonths;
+
+    @Schema(description = "저장된 근무일 수", example = "730")
+    private int importedDays;
+
+    @Schema(description = "근무 유형을 알 수 없어 건너뛴 일정 수", example = "3")
+    private int skippedEvents;
+}
@@ -0,0 +1,21 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class WorkCalendarRevisionResDto {
+
+    @Schema(description = "이력 번호 (가장 큰 번호가 현재 근무표)", example = "3")
+    private int revision;
+
+    @Schema(description = "이 이력에서 바뀐 날짜 수", example = "2")
+    private int changedDays;
+
+    @Schema(description = "저장 시각", example = "2025-07-01T09:30:00")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkGroupJoinRequestDto {
+
+    @NotBlank(message = "초대 코드는 필수입니다.")
+    @Schema(description = "근무조 초대 코드", example = "K7QX2M9P")
+    private String inviteCode;
+}
@@ -0,0 +1,21 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkGroupRequestDto {
+
+    @NotBlank(message = "근무조 이름은 필수입니다.")
+    @Size(max = 30, message = "근무조 이름은 30자 이하여야 합니다.")
+    @Schema(description = "근무조 이름", example = "내과 병동 1조")
+    private String name;
+}
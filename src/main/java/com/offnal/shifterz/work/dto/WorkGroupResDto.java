@@ -0,0 +1,19 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WorkGroupResDto {
+
+    @Schema(description = "근무조 ID", example = "1")
+    private Long workGroupId;
+
+    @Schema(description = "근무조 이름", example = "내과 병동 1조")
+    private String name;
+
+    @Schema(description = "초대 코드 (구성원에게 공유)", example = "K7QX2M9P")
+    private String inviteCode;
+}
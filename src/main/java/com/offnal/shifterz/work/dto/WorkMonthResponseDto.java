@@ -0,0 +1,31 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class WorkMonthResponseDto {
+
+    @Schema(description = "연도", example = "2025")
+    private String year;
+
+    @Schema(description = "월", example = "7")
+    private String month;
+
+    @Schema(description = "근무표 이름")
+    private String calendarName;
+
+    @Schema(description = "근무 조")
+    private String workGroup;
+
+    @Schema(description = "근무 유형 기호별 근무 시간")
+    private Map<String, WorkTimeDto> workTimes;
+
+    @Schema(description = "조회 기간 내 날짜별 근무 유형")
+    private List<WorkDayResponseDto> days;
+}
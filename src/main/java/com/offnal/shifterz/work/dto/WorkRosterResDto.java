@@ -0,0 +1,51 @@
+package com.offnal.shifterz.work.dto;
+
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class WorkRosterResDto {
+
+    @Schema(description = "근무조 ID", example = "1")
+    private Long workGroupId;
+
+    @Schema(description = "근무조 이름", example = "내과 병동 1조")
+    private String workGroup;
+
+    @Schema(description = "근무조 구성원별 근무 (닉네임 순)")
+    private List<MemberShifts> members;
+
+    @Getter
+    @Builder
+    public static class MemberShifts {
+
+        @Schema(description = "회원 ID", example = "1")
+        private Long memberId;
+
+        @Schema(description = "닉네임", example = "김간호")
+        private String nickname;
+
+        @Schema(description = "프로필 이미지 URL")
+        private String profileImageUrl;
+
+        @Schema(description = "날짜별 근무 (근무 정보가 있는 날짜만, 날짜순)")
+        private List<RosterDay> days;
+    }
+
+    @Getter
+    @Builder
+    public static class RosterDay {
+
+        @Schema(description = "날짜", example = "2025-07-01")
+        private LocalDate date;
+
+        @Schema(description = "근무 유형")
+        private WorkTimeType workType;
+    }
+}
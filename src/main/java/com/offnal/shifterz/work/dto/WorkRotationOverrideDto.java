@@ -0,0 +1,25 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "순환 근무 예외 근무일 수정 요청 DTO")
+public class WorkRotationOverrideDto {
+
+    @NotNull
+    @NotEmpty(message = "근무일 정보는 필수입니다.")
+    @Schema(description = "날짜별 근무타입 (패턴과 같은 근무타입이면 예외가 해제됨)", example = "{\"2025-07-03\": \"-\"}")
+    private Map<LocalDate, String> shifts;
+}
@@ -0,0 +1,58 @@
+package com.offnal.shifterz.work.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkRotationRequestDto {
+
+    @NotEmpty(message = "근무표 이름은 필수입니다.")
+    @NotNull
+    @Schema(description = "근무표 이름")
+    private String calendarName;
+
+    @NotEmpty(message = "근무조는 필수입니다.")
+    @NotNull
+    @Schema(description = "근무조")
+    private String workGroup;
+
+    @Valid
+    @NotEmpty(message = "근무 시간 정보는 필수입니다.")
+    @NotNull
+    @Schema(description = "근무타입별 시간 정보(D/E/N)")
+    private Map<String, WorkTimeDto> workTimes;
+
+    @NotNull
+    @Pattern(regexp = "^[DEN-]{1,62}$", message = "순환 패턴 형식이 올바르지 않습니다.")
+    @Schema(description = "순환 패턴 (날짜별 근무 기호 D/E/N/-, 최대 62일)", example = "DDEENN--")
+    private String pattern;
+
+    @NotNull
+    @Schema(description = "패턴 첫 글자에 해당하는 날짜", example = "2025-07-01")
+    private LocalDate anchorDate;
+
+    @Schema(description = "마지막 근무일 (없으면 계속 반복)", example = "2026-12-31")
+    private LocalDate endDate;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "마지막 근무일은 기준일 이후여야 합니다.")
+    public boolean isEndDateValid() {
+        return endDate == null || anchorDate == null || !endDate.isBefore(anchorDate);
+    }
+}
@@ -0,0 +1,31 @@
+package com.offnal.shifterz.work.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Builder
+public class WorkRotationResDto {
+
+    @Schema(description = "근무표 이름")
+    private String calendarName;
+
+    @Schema(description = "근무조")
+    private String workGroup;
+
+    @Schema(description = "근무 유형 기호별 근무 시간")
+    private Map<String, WorkTimeDto> workTimes;
+
+    @Schema(description = "순환 패턴", example = "DDEENN--")
+    private String pattern;
+
+    @Schema(description = "패턴 첫 글자에 해당하는 날짜", example = "2025-07-01")
+    private LocalDate anchorDate;
+
+    @Schema(description = "마지막 근무일 (없으면 계속 반복)")
+    private LocalDate endDate;
+}
@@ -0,0 +1,5 @@
+package com.offnal.shifterz.work.event;
+
+// 근무표 저장/수정/삭제 이벤트
+public record WorkCalendarChangedEvent(Long memberId) {
+}
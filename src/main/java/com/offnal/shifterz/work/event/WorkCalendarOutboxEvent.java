@@ -0,0 +1,15 @@
+package com.offnal.shifterz.work.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 아웃박스에서 꺼내 프로젝션에 전달하는 근무표 변경 (회원, 변경 버전, 바뀐 날짜 범위, 범위가 null 이면 회원의 전체 기간)
+public record WorkCalendarOutboxEvent(
+        Long id,
+        Long memberId,
+        Long version,
+        LocalDate fromDate,
+        LocalDate toDate,
+        LocalDateTime occurredAt
+) {
+}
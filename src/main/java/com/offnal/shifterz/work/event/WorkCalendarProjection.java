@@ -0,0 +1,15 @@
+package com.offnal.shifterz.work.event;
+
+/**
+ * 근무표 변경으로 갱신되는 파생 데이터(통계, 근무조 현황 등).
+ * 빈으로 등록하면 WorkCalendarOutboxDispatcher 가 커밋된 변경을 비동기로 전달한다.
+ * 전달은 최소 한 번(at-least-once)이므로 같은 이벤트를 다시 받아도 결과가 같도록 구현해야 한다.
+ * handle 은 트랜잭션 밖에서 호출되므로 DB 에 쓰는 프로젝션은 직접 트랜잭션을 연다.
+ */
+public interface WorkCalendarProjection {
+
+    // 지표 태그와 로그에 쓰는 이름
+    String name();
+
+    void handle(WorkCalendarOutboxEvent event);
+}
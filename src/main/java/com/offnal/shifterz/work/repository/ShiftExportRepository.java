@@ -0,0 +1,62 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.stream.Stream;
+
+/**
+ * 근무 기록 내보내기용 스트림 조회.
+ * 서버 커서(useCursorFetch)를 켠 전용 풀에서 근무표 + 근무일을 한 쿼리로 fetch-size 만큼씩 읽어,
+ * 기록 기간과 상관없이 메모리 사용량이 일정하고 일반 커넥션 풀의 설정에는 영향을 주지 않는다.
+ */
+@Repository
+public class ShiftExportRepository implements DisposableBean {
+
+    private static final String STREAM_SQL = """
+            select wc.start_date, wc.storage, wc.shift_code, wc.work_time_profile_id, wi.work_date, wi.work_time_type
+            from work_calendar wc
+            left join work_instance wi on wi.work_calendar_id = wc.id
+            where wc.member_id = ?
+            order by wc.start_date, wi.work_date
+            """;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    // HikariDataSource 도 HikariConfig 이므로 이름으로 지정
+    public ShiftExportRepository(@Qualifier("exportDataSourceConfig") HikariConfig exportDataSourceConfig,
+                                 @Value("${work.export.fetch-size:500}") int fetchSize) {
+        this.dataSource = new HikariDataSource(exportDataSourceConfig);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // 회원의 전체 근무 기록을 월, 날짜 순으로 스트림 조회 (사용 후 반드시 close, 닫을 때 커넥션 반환)
+    public Stream<ShiftExportRow> streamByMemberId(Long memberId) {
+        return jdbcTemplate.queryForStream(STREAM_SQL, (rs, rowNum) -> {
+            Date workDate = rs.getDate("work_date");
+            String workTimeType = rs.getString("work_time_type");
+            return new ShiftExportRow(
+                    rs.getDate("start_date").toLocalDate(),
+                    WorkCalendarStorage.valueOf(rs.getString("storage")),
+                    rs.getString("shift_code"),
+                    rs.getObject("work_time_profile_id", Long.class),
+                    workDate != null ? workDate.toLocalDate() : null,
+                    workTimeType != null ? WorkTimeType.valueOf(workTimeType) : null);
+        }, memberId);
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,20 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+
+import java.time.LocalDate;
+
+/**
+ * 근무 기록 내보내기 조회 결과 한 행.
+ * ROWS 근무표는 근무일마다 한 행(workDate, workTimeType), PACKED 근무표나 근무일이 없는 근무표는 근무표당 한 행(shiftCode)이다.
+ */
+public record ShiftExportRow(
+        LocalDate startDate,
+        WorkCalendarStorage storage,
+        String shiftCode,
+        Long workTimeProfileId,
+        LocalDate workDate,
+        WorkTimeType workTimeType
+) {
+}
@@ -0,0 +1,64 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 근무표 변경 기록 저장소.
+ * 버전은 회원별 행을 증가시켜 발급하고, 그 행 잠금이 커밋까지 유지되므로 같은 회원의 변경은 버전 순서대로 커밋된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkCalendarChangeBatchRepository {
+
+    private static final String NEXT_VERSION_SQL =
+            "insert into work_calendar_version (member_id, version) values (?, 1) on duplicate key update version = version + 1";
+    private static final String CURRENT_VERSION_SQL =
+            "select version from work_calendar_version where member_id = ?";
+    private static final String INSERT_SQL =
+            "insert into work_calendar_change (member_id, version, work_date, work_time_type) values (?, ?, ?, ?)";
+    private static final String INSERT_FULL_RESYNC_SQL =
+            "insert into work_calendar_change (member_id, version, work_date, work_time_type) values (?, ?, null, null)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${work.batch.size:500}")
+    private int batchSize;
+
+    // 회원의 다음 변경 버전 발급 (현재 트랜잭션이 끝날 때까지 회원 버전 행 잠금)
+    public long nextVersion(Long memberId) {
+        jdbcTemplate.update(NEXT_VERSION_SQL, memberId);
+        return jdbcTemplate.queryForObject(CURRENT_VERSION_SQL, Long.class, memberId);
+    }
+
+    // 날짜별 변경 후 근무 유형 일괄 저장 (값이 null 이면 근무 정보 삭제)
+    public void insertAll(Long memberId, long version, Map<LocalDate, WorkTimeType> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(days.entrySet()), batchSize, (ps, day) -> {
+            ps.setLong(1, memberId);
+            ps.setLong(2, version);
+            ps.setDate(3, Date.valueOf(day.getKey()));
+            if (day.getValue() != null) {
+                ps.setString(4, day.getValue().name());
+            } else {
+                ps.setNull(4, Types.VARCHAR);
+            }
+        });
+    }
+
+    // 전체 다시 받기 표시 (날짜 없는 한 행)
+    public void insertFullResync(Long memberId, long version) {
+        jdbcTemplate.update(INSERT_FULL_RESYNC_SQL, memberId, version);
+    }
+}
@@ -0,0 +1,27 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WorkCalendarChangeRepository extends JpaRepository<WorkCalendarChange, Long> {
+
+    // since 이후 변경 기록을 버전 순서로 조회 ((member_id, version) 인덱스 범위 조회)
+    @Query("""
+            select new com.offnal.shifterz.work.repository.WorkCalendarChangeRow(c.version, c.workDate, c.workTimeType)
+            from WorkCalendarChange c
+            where c.memberId = :memberId and c.version > :since
+            order by c.version, c.id
+            """)
+    List<WorkCalendarChangeRow> findRowsAfter(
+            @Param("memberId") Long memberId, @Param("since") Long since, Pageable pageable);
+
+    @Query("select v.version from WorkCalendarVersion v where v.memberId = :memberId")
+    Long findCurrentVersion(@Param("memberId") Long memberId);
+}
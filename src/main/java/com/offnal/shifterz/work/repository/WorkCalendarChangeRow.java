@@ -0,0 +1,11 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkTimeType;
+
+import java.time.LocalDate;
+
+/**
+ * 변경 기록 조회용 프로젝션
+ */
+public record WorkCalendarChangeRow(Long version, LocalDate workDate, WorkTimeType workTimeType) {
+}
@@ -0,0 +1,28 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+
+import java.time.LocalDate;
+
+/**
+ * 근무표 + 기간 내 근무일 조회 결과 한 행.
+ * ROWS 근무표는 기간 내 근무일마다 한 행(workDate, workTimeType), PACKED 근무표나 기간 내 근무일이 없으면 근무표당 한 행이다.
+ */
+public record WorkCalendarDayRow(
+        Long id,
+        Long memberId,
+        String calendarName,
+        String workGroup,
+        LocalDate startDate,
+        WorkCalendarStorage storage,
+        String shiftCode,
+        Long workTimeProfileId,
+        LocalDate workDate,
+        WorkTimeType workTimeType
+) {
+
+    public WorkCalendarView toView() {
+        return new WorkCalendarView(id, memberId, calendarName, workGroup, startDate, storage, shiftCode, workTimeProfileId);
+    }
+}
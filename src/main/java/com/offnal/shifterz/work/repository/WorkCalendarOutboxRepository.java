@@ -0,0 +1,55 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkCalendarOutboxRepository extends JpaRepository<WorkCalendarOutbox, Long> {
+
+    // 점유되지 않았거나 점유가 만료된 이벤트를 오래된 순으로 한 배치 점유 (UPDATE 한 번, 행 잠금은 이 문장이 끝나면 풀림)
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            update work_calendar_outbox
+            set claim_token = :token, claimed_until = :claimedUntil
+            where claimed_until is null or claimed_until < :now
+            order by id
+            limit :limit
+            """, nativeQuery = true)
+    int claimNextBatch(
+            @Param("token") String token,
+            @Param("now") LocalDateTime now,
+            @Param("claimedUntil") LocalDateTime claimedUntil,
+            @Param("limit") int limit);
+
+    // 점유한 배치 조회
+    List<WorkCalendarOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    // 전달에 성공했거나 버린 이벤트 삭제 (그 사이 점유가 만료되어 다른 노드가 가져간 이벤트는 남김)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from WorkCalendarOutbox o where o.id in :ids and o.claimToken = :token")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    // 실패한 이벤트의 시도 횟수를 올리고 retryAt 이후에 다시 점유되도록 점유 해제
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update WorkCalendarOutbox o
+            set o.attempts = o.attempts + 1, o.claimToken = null, o.claimedUntil = :retryAt
+            where o.id in :ids and o.claimToken = :token
+            """)
+    int releaseFailed(
+            @Param("ids") Collection<Long> ids,
+            @Param("token") String token,
+            @Param("retryAt") LocalDateTime retryAt);
+
+    // 가장 오래된 대기 이벤트 생성 시각 (없으면 null)
+    @Query("select min(o.createdAt) from WorkCalendarOutbox o")
+    LocalDateTime findOldestCreatedAt();
+}
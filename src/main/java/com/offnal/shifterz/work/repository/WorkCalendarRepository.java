@@ -1,13 +1,85 @@
 package com.offnal.shifterz.work.repository;
 
 import com.offnal.shifterz.work.domain.WorkCalendar;
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WorkCalendarRepository extends JpaRepository<WorkCalendar, Long> {
-    boolean existsByMemberIdAndYearAndMonth(Long memberId, String year, String month);
-    Optional<WorkCalendar> findByMemberIdAndYearAndMonth(Long memberId, String year, String month);
+    // 월 근무표는 (member_id, start_date) 로 찾음 (연/월 문자열은 "07" / "7" 처럼 표기가 다를 수 있음)
+    boolean existsByMemberIdAndStartDate(Long memberId, LocalDate startDate);
+
+    // 수정/복원할 근무표 (SELECT ... FOR UPDATE, 동시 수정이 같은 이력 번호를 쓰지 않도록 커밋까지 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<WorkCalendar> findForUpdateByMemberIdAndStartDate(Long memberId, LocalDate startDate);
+
+    // 여러 회원의 기간 내 근무표 ((member_id, start_date) 인덱스 범위 조회, 조회 전용 프로젝션)
+    @Query("""
+            select new com.offnal.shifterz.work.repository.WorkCalendarView(
+                wc.id, wc.memberId, wc.calendarName, wc.workGroup, wc.startDate, wc.storage, wc.shiftCode,
+                wc.workTimeProfileId)
+            from WorkCalendar wc
+            where wc.memberId in :memberIds
+              and wc.startDate between :fromMonth and :toMonth
+            """)
+    List<WorkCalendarView> findViewsByMemberIdsAndStartDateBetween(
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+
+    // 여러 회원의 기간 내 근무표와 ROWS 근무일을 한 번에 조회 (조회 전용 프로젝션)
+    @Query("""
+            select new com.offnal.shifterz.work.repository.WorkCalendarDayRow(
+                wc.id, wc.memberId, wc.calendarName, wc.workGroup, wc.startDate, wc.storage, wc.shiftCode,
+                wc.workTimeProfileId, wi.workDate, wi.workTimeType)
+            from WorkCalendar wc
+            left join WorkInstance wi on wi.workCalendar.id = wc.id and wi.workDate between :from and :to
+            where wc.memberId in :memberIds
+              and wc.startDate between :fromMonth and :toMonth
+            """)
+    List<WorkCalendarDayRow> findDayRowsByMemberIdsAndStartDateBetween(
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // 해당 월(1일) 중 이미 저장된 근무표가 있는지 확인
+    boolean existsByMemberIdAndStartDateIn(Long memberId, Collection<LocalDate> startDates);
+
+    // 저장 방식별 근무표를 ID 순서로 조회 (키셋 페이징)
+    List<WorkCalendar> findByStorageAndIdGreaterThanOrderByIdAsc(WorkCalendarStorage storage, Long lastId, Pageable pageable);
+
+    @Query("select wc.id from WorkCalendar wc where wc.memberId = :memberId and wc.startDate = :startDate")
+    Optional<Long> findIdByMemberIdAndStartDate(
+            @Param("memberId") Long memberId, @Param("startDate") LocalDate startDate);
+
+    // 근무표 일괄 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from WorkCalendar wc where wc.id in :calendarIds")
+    int deleteAllByIdIn(@Param("calendarIds") Collection<Long> calendarIds);
+
+    // 해당 월(1일) 근무표가 있는 회원 ID를 lastMemberId 다음부터 순서대로 조회 (키셋 페이징)
+    @Query("""
+            select wc.memberId from WorkCalendar wc
+            where wc.startDate = :startDate
+              and wc.memberId > :lastMemberId
+            order by wc.memberId
+            """)
+    List<Long> findMemberIdsByStartDateAfter(
+            @Param("startDate") LocalDate startDate,
+            @Param("lastMemberId") Long lastMemberId,
+            Pageable pageable);
 }
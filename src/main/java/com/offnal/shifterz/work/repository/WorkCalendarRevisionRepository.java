@@ -0,0 +1,31 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkCalendarRevisionRepository extends JpaRepository<WorkCalendarRevision, Long> {
+
+    List<WorkCalendarRevision> findByWorkCalendarIdOrderByRevisionDesc(Long workCalendarId);
+
+    // revision 이하의 가장 최근 스냅샷
+    Optional<WorkCalendarRevision> findTopByWorkCalendarIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(
+            Long workCalendarId, int revision);
+
+    // 스냅샷 이후 적용할 변경분
+    List<WorkCalendarRevision> findByWorkCalendarIdAndRevisionBetweenOrderByRevisionAsc(
+            Long workCalendarId, int fromRevision, int toRevision);
+
+    // 근무표들의 수정 이력 일괄 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from WorkCalendarRevision r where r.workCalendarId in :calendarIds")
+    int deleteAllByWorkCalendarIds(@Param("calendarIds") Collection<Long> calendarIds);
+}
@@ -0,0 +1,41 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkSchedule;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 조회 전용 근무표 프로젝션 (엔티티를 만들지 않아 변경 감지 스냅샷이 생기지 않음)
+ */
+public record WorkCalendarView(
+        Long id,
+        Long memberId,
+        String calendarName,
+        String workGroup,
+        LocalDate startDate,
+        WorkCalendarStorage storage,
+        String shiftCode,
+        Long workTimeProfileId
+) implements WorkSchedule {
+
+    public YearMonth toYearMonth() {
+        return YearMonth.from(startDate);
+    }
+
+    @Override
+    public String getCalendarName() {
+        return calendarName;
+    }
+
+    @Override
+    public String getWorkGroup() {
+        return workGroup;
+    }
+
+    @Override
+    public Long getWorkTimeProfileId() {
+        return workTimeProfileId;
+    }
+}
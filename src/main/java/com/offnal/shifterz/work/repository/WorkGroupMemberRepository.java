@@ -0,0 +1,44 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkGroupMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WorkGroupMemberRepository extends JpaRepository<WorkGroupMember, Long> {
+
+    boolean existsByWorkGroupIdAndMemberId(Long workGroupId, Long memberId);
+
+    // 근무조 전체 구성원 + 기간의 근무표와 근무일을 한 번에 조회 (근무표가 없는 구성원도 근무표 컬럼이 null 인 한 행)
+    // 요청한 회원이 구성원이 아니거나 근무조가 없으면 빈 결과
+    @Query("""
+            select new com.offnal.shifterz.work.repository.WorkRosterRow(
+                g.name, gm.memberId, m.kakaoNickname, m.profileImageUrl, wc.startDate, wc.storage, wc.shiftCode,
+                wi.workDate, wi.workTimeType)
+            from WorkGroupMember gm
+            join WorkGroup g on g.id = gm.workGroupId
+            join Member m on m.id = gm.memberId
+            left join WorkCalendar wc on wc.memberId = gm.memberId and wc.startDate between :fromMonth and :toMonth
+            left join WorkInstance wi on wi.workCalendar.id = wc.id and wi.workDate between :from and :to
+            where gm.workGroupId = :workGroupId
+              and exists (select 1 from WorkGroupMember me where me.workGroupId = :workGroupId and me.memberId = :memberId)
+            order by m.kakaoNickname, gm.memberId
+            """)
+    List<WorkRosterRow> findRosterRows(
+            @Param("workGroupId") Long workGroupId,
+            @Param("memberId") Long memberId,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from WorkGroupMember gm where gm.workGroupId = :workGroupId and gm.memberId = :memberId")
+    int deleteByWorkGroupIdAndMemberId(@Param("workGroupId") Long workGroupId, @Param("memberId") Long memberId);
+}
@@ -0,0 +1,26 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkGroupRepository extends JpaRepository<WorkGroup, Long> {
+
+    Optional<WorkGroup> findByInviteCode(String inviteCode);
+
+    boolean existsByInviteCode(String inviteCode);
+
+    // 회원이 가입한 근무조 (이름 순)
+    @Query("""
+            select g from WorkGroup g
+            where g.id in (select gm.workGroupId from WorkGroupMember gm where gm.memberId = :memberId)
+            order by g.name, g.id
+            """)
+    List<WorkGroup> findAllByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,43 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * 근무일 대량 저장용 JDBC 배치 저장소.
+ * IDENTITY 키 생성 전략에서는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JDBC 배치로 직접 저장한다.
+ * (MySQL 은 rewriteBatchedStatements=true 설정 시 한 번의 multi-row INSERT 로 전송)
+ */
+@Repository
+public class WorkInstanceBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into work_instance (work_day, work_time_type, work_calendar_id, member_id, work_date) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public WorkInstanceBatchRepository(JdbcTemplate jdbcTemplate, @Value("${work.batch.size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 근무일 일괄 저장 (근무표는 저장되어 ID가 있어야 함)
+    public void insertAll(List<WorkInstance> instances) {
+        if (instances.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, instances, batchSize, (ps, instance) -> {
+            ps.setString(1, instance.getWorkDay());
+            ps.setString(2, instance.getWorkTimeType().name());
+            ps.setLong(3, instance.getWorkCalendar().getId());
+            ps.setLong(4, instance.getMemberId());
+            ps.setDate(5, Date.valueOf(instance.getWorkDate()));
+        });
+    }
+}
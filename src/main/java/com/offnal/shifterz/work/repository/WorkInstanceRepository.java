@@ -3,19 +3,23 @@ package com.offnal.shifterz.work.repository;
 import com.offnal.shifterz.work.domain.WorkCalendar;
 import com.offnal.shifterz.work.domain.WorkInstance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface WorkInstanceRepository extends JpaRepository<WorkInstance, Long> {
 
-    Optional<WorkInstance> findByWorkDayAndWorkCalendar_MemberIdAndWorkCalendar_YearAndWorkCalendar_Month(
-            String workDay, Long memberId, String year, String month);
+    List<WorkInstance> findByWorkCalendar(WorkCalendar workCalendar);
 
-    List<WorkInstance> findByWorkCalendar_MemberIdAndWorkCalendar_YearAndWorkCalendar_Month(
-            Long memberId, String year, String month);
+    List<WorkInstance> findByWorkCalendar_IdIn(Collection<Long> calendarIds);
 
-    void deleteAllByWorkCalendar(WorkCalendar workCalendar);
+    // 근무표들의 근무일 일괄 삭제 (엔티티를 읽지 않는 단일 DELETE)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from WorkInstance wi where wi.workCalendar.id in :calendarIds")
+    int deleteAllByWorkCalendarIds(@Param("calendarIds") Collection<Long> calendarIds);
 }
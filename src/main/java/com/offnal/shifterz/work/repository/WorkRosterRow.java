@@ -0,0 +1,24 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+
+import java.time.LocalDate;
+
+/**
+ * 근무조 근무 현황 조회 결과 한 행.
+ * ROWS 근무표는 근무일마다 한 행(workDate, workTimeType), PACKED 근무표는 근무표당 한 행(shiftCode)이다.
+ * 기간에 근무표가 없는 구성원은 startDate 가 null 인 한 행이다.
+ */
+public record WorkRosterRow(
+        String workGroupName,
+        Long memberId,
+        String nickname,
+        String profileImageUrl,
+        LocalDate startDate,
+        WorkCalendarStorage storage,
+        String shiftCode,
+        LocalDate workDate,
+        WorkTimeType workTimeType
+) {
+}
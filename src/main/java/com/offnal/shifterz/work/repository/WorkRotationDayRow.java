@@ -0,0 +1,10 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+
+import java.time.LocalDate;
+
+// 순환 근무 + 기간 내 예외 근무일 한 행 (예외 근무일이 없으면 순환 근무당 한 행, overrideDate 는 null)
+public record WorkRotationDayRow(WorkRotation rotation, LocalDate overrideDate, WorkTimeType overrideType) {
+}
@@ -0,0 +1,26 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkRotationOverride;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkRotationOverrideRepository extends JpaRepository<WorkRotationOverride, Long> {
+
+    // 순환 근무의 전체 예외 근무일 (내보내기용, 패턴과 다른 날만 저장되므로 적음)
+    List<WorkRotationOverride> findByRotation_IdOrderByWorkDateAsc(Long rotationId);
+
+    List<WorkRotationOverride> findByRotationAndWorkDateIn(WorkRotation rotation, Collection<LocalDate> workDates);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from WorkRotationOverride o where o.rotation.id = :rotationId")
+    int deleteAllByRotationId(@Param("rotationId") Long rotationId);
+}
@@ -0,0 +1,48 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkRotation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkRotationRepository extends JpaRepository<WorkRotation, Long> {
+
+    boolean existsByMemberId(Long memberId);
+
+    Optional<WorkRotation> findByMemberId(Long memberId);
+
+    // 해당 날짜에 순환 근무 기간인 회원 ID를 lastMemberId 다음부터 순서대로 조회 (키셋 페이징)
+    @Query("""
+            select r.memberId from WorkRotation r
+            where r.anchorDate <= :date
+              and (r.endDate is null or r.endDate >= :date)
+              and r.memberId > :lastMemberId
+            order by r.memberId
+            """)
+    List<Long> findMemberIdsCoveringAfter(
+            @Param("date") LocalDate date,
+            @Param("lastMemberId") Long lastMemberId,
+            Pageable pageable);
+
+    // 기간과 겹치는 회원들의 순환 근무 + 기간 내 예외 근무일을 한 번에 조회
+    @Query("""
+            select new com.offnal.shifterz.work.repository.WorkRotationDayRow(r, o.workDate, o.workTimeType)
+            from WorkRotation r
+            left join WorkRotationOverride o on o.rotation.id = r.id and o.workDate between :from and :to
+            where r.memberId in :memberIds
+              and r.anchorDate <= :to
+              and (r.endDate is null or r.endDate >= :from)
+            """)
+    List<WorkRotationDayRow> findDayRowsByMemberIdsOverlapping(
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
@@ -0,0 +1,46 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 근무 시간 프로필 저장소 (요청 트랜잭션의 커넥션으로 저장).
+ * 같은 fingerprint 를 동시에 저장하면 INSERT IGNORE 가 먼저 저장한 트랜잭션이 끝날 때까지 기다린 뒤 그 결과를 따른다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkTimeProfileBatchRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "insert ignore into work_time_profile (fingerprint) values (?)";
+    // 잠금 읽기 (트랜잭션 스냅샷 이후 다른 트랜잭션이 커밋한 프로필도 조회)
+    private static final String SELECT_ID_SQL =
+            "select id from work_time_profile where fingerprint = ? for share";
+    private static final String INSERT_TIMES_SQL =
+            "insert into work_time_profile_times (work_time_profile_id, work_times_key, time_type, start_time, end_time) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 근무 시간의 프로필 ID (없으면 저장, 근무 시간 행은 새로 저장한 경우에만 INSERT)
+    public Long insertIfAbsent(String fingerprint, Map<String, WorkTime> workTimes) {
+        int inserted = jdbcTemplate.update(INSERT_IGNORE_SQL, fingerprint);
+        Long id = jdbcTemplate.queryForObject(SELECT_ID_SQL, Long.class, fingerprint);
+
+        if (inserted == 1 && !workTimes.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TIMES_SQL, new ArrayList<>(workTimes.entrySet()), workTimes.size(), (ps, entry) -> {
+                ps.setLong(1, id);
+                ps.setString(2, entry.getKey());
+                ps.setString(3, entry.getValue().getTimeType().name());
+                ps.setTime(4, Time.valueOf(entry.getValue().getStartTime()));
+                ps.setTime(5, Time.valueOf(entry.getValue().getEndTime()));
+            });
+        }
+        return id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.offnal.shifterz.work.repository;
+
+import com.offnal.shifterz.work.domain.WorkTimeProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkTimeProfileRepository extends JpaRepository<WorkTimeProfile, Long> {
+
+    @Query("select distinct p from WorkTimeProfile p left join fetch p.workTimes where p.id in :ids")
+    List<WorkTimeProfile> findAllWithWorkTimesByIdIn(@Param("ids") Collection<Long> ids);
+}
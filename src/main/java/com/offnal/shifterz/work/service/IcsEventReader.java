@@ -0,0 +1,159 @@
+package com.offnal.shifterz.work.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar 파일을 한 줄씩 읽어 VEVENT 를 하나씩 돌려주는 스트리밍 파서.
+ * 근무 유형 변환에 필요한 시작 날짜/시간과 CATEGORIES 만 읽고 나머지 속성은 버린다.
+ * 반복 일정(RRULE, RDATE, EXRULE)은 펼치지 않으므로 조용히 한 번만 저장되지 않도록 거부한다.
+ */
+class IcsEventReader {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final String[] RECURRENCE_PROPERTIES = {"RRULE", "RDATE", "EXRULE"};
+
+    private final BufferedReader reader;
+    private final ZoneId zone;
+    private String lookahead;
+
+    IcsEventReader(Reader reader, ZoneId zone) {
+        this.reader = new BufferedReader(reader);
+        this.zone = zone;
+    }
+
+    // 일정 시작 (startTime 이 null 이면 종일 일정)
+    record IcsEvent(LocalDate date, LocalTime startTime, String category) {
+    }
+
+    // 지원하지 않는 반복 일정 속성이 있는 VEVENT
+    static class UnsupportedPropertyException extends IllegalArgumentException {
+
+        private final String property;
+
+        UnsupportedPropertyException(String property) {
+            super("Unsupported VEVENT property: " + property);
+            this.property = property;
+        }
+
+        String getProperty() {
+            return property;
+        }
+    }
+
+    // 다음 일정 (파일 끝이면 null, 시작 날짜를 읽을 수 없으면 IllegalArgumentException, 반복 일정이면 UnsupportedPropertyException)
+    IcsEvent next() throws IOException {
+        boolean inEvent = false;
+        String dtStart = null;
+        String category = null;
+
+        String line;
+        while ((line = readUnfoldedLine()) != null) {
+            if (line.equals("BEGIN:VEVENT")) {
+                inEvent = true;
+                dtStart = null;
+                category = null;
+            } else if (line.equals("END:VEVENT") && inEvent) {
+                if (dtStart == null) {
+                    throw new IllegalArgumentException("VEVENT without DTSTART");
+                }
+                return toEvent(dtStart, category);
+            } else if (inEvent && (line.startsWith("DTSTART:") || line.startsWith("DTSTART;"))) {
+                dtStart = line;
+            } else if (inEvent && line.startsWith("CATEGORIES:")) {
+                category = line.substring("CATEGORIES:".length()).trim();
+            } else if (inEvent) {
+                rejectRecurrence(line);
+            }
+        }
+        return null;
+    }
+
+    // RRULE:FREQ=DAILY / RDATE;VALUE=DATE:20250701 등 반복 속성이면 예외
+    private void rejectRecurrence(String line) {
+        for (String property : RECURRENCE_PROPERTIES) {
+            if (line.length() > property.length() && line.startsWith(property)
+                    && (line.charAt(property.length()) == ':' || line.charAt(property.length()) == ';')) {
+                throw new UnsupportedPropertyException(property);
+            }
+        }
+    }
+
+    // 접힌 줄(공백/탭으로 시작하는 다음 줄)을 이어 붙여 한 줄로 반환
+    private String readUnfoldedLine() throws IOException {
+        String line = lookahead != null ? lookahead : reader.readLine();
+        lookahead = null;
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = reader.readLine()) != null && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            unfolded.append(next, 1, next.length());
+        }
+        lookahead = next;
+        return unfolded != null ? unfolded.toString() : line;
+    }
+
+    // DTSTART;VALUE=DATE:20250701 / DTSTART:20250701T160000[Z] / DTSTART;TZID=Asia/Seoul:20250701T160000
+    private IcsEvent toEvent(String dtStart, String category) {
+        int colon = dtStart.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("DTSTART without value: " + dtStart);
+        }
+        String params = dtStart.substring("DTSTART".length(), colon);
+        String value = dtStart.substring(colon + 1).trim();
+
+        try {
+            if (value.length() == 8) {
+                return new IcsEvent(LocalDate.parse(value, DATE), null, category);
+            }
+
+            LocalDateTime start;
+            if (value.endsWith("Z")) {
+                start = LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                        .atOffset(ZoneOffset.UTC)
+                        .atZoneSameInstant(zone)
+                        .toLocalDateTime();
+            } else {
+                start = LocalDateTime.parse(value, DATE_TIME);
+                ZoneId eventZone = findTzid(params);
+                if (eventZone != null) {
+                    start = start.atZone(eventZone).withZoneSameInstant(zone).toLocalDateTime();
+                }
+            }
+            return new IcsEvent(start.toLocalDate(), start.toLocalTime(), category);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid DTSTART: " + value, e);
+        }
+    }
+
+    // TZID 파라미터의 시간대 (없거나 알 수 없으면 null -> 현지 시간으로 처리)
+    private ZoneId findTzid(String params) {
+        for (String param : params.split(";")) {
+            if (param.startsWith("TZID=")) {
+                try {
+                    return ZoneId.of(param.substring("TZID=".length()).replace("\"", ""));
+                } catch (DateTimeException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
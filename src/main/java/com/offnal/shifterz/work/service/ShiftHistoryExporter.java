@@ -0,0 +1,203 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.ShiftCode;
+import com.offnal.shifterz.work.domain.ShiftExportFormat;
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkRotationOverride;
+import com.offnal.shifterz.work.domain.WorkTime;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.repository.ShiftExportRepository;
+import com.offnal.shifterz.work.repository.ShiftExportRow;
+import com.offnal.shifterz.work.repository.WorkRotationOverrideRepository;
+import com.offnal.shifterz.work.repository.WorkRotationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 회원의 전체 근무 기록을 CSV / iCalendar 로 내보낸다.
+ * 근무표 + 근무일을 월, 날짜 순 한 스트림(ShiftExportRepository)으로 읽으며 바로 출력해
+ * 근무 기록 기간과 상관없이 메모리 사용량이 일정하다.
+ * 근무표 조회(WorkScheduleReader)와 같이 월별 근무표가 없는 달은 순환 근무(예외 근무일 우선)로 채운다.
+ * 마지막 근무일이 없는 순환 근무는 rotation-months-ahead 개월 뒤 달까지만 내보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShiftHistoryExporter {
+
+    private static final DateTimeFormatter ICS_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String CRLF = "\r\n";
+
+    private final ShiftExportRepository shiftExportRepository;
+    private final WorkTimeProfileCache workTimeProfileCache;
+    private final WorkRotationRepository workRotationRepository;
+    private final WorkRotationOverrideRepository workRotationOverrideRepository;
+
+    @Value("${work.export.rotation-months-ahead:12}")
+    private int rotationMonthsAhead;
+
+    public void export(Long memberId, ShiftExportFormat format, Writer writer) throws IOException {
+        RotationMonths rotation = workRotationRepository.findByMemberId(memberId)
+                .map(this::toRotationMonths)
+                .orElse(null);
+
+        try (Stream<ShiftExportRow> rows = shiftExportRepository.streamByMemberId(memberId)) {
+            writeHeader(format, writer);
+
+            LocalDate currentMonth = null;
+            for (Iterator<ShiftExportRow> it = rows.iterator(); it.hasNext(); ) {
+                ShiftExportRow row = it.next();
+
+                // 근무표(월)가 바뀌면 이전 달까지 출력한 내용을 내보내고, 그 사이 근무표가 없는 달은 순환 근무로 출력
+                // PACKED 근무표는 shiftCode 로 한 달을 출력
+                if (!row.startDate().equals(currentMonth)) {
+                    if (currentMonth != null) {
+                        writer.flush();
+                    }
+                    currentMonth = row.startDate();
+                    YearMonth month = YearMonth.from(currentMonth);
+                    if (rotation != null) {
+                        writeRotationMonthsBefore(format, writer, memberId, rotation, month);
+                        rotation.skip(month);
+                    }
+                    if (row.storage() == WorkCalendarStorage.PACKED) {
+                        writePackedMonth(format, writer, memberId, row);
+                    }
+                }
+                if (row.workDate() != null) {
+                    writeDay(format, writer, memberId, row.workDate(), row.workTimeType(), row.workTimeProfileId());
+                }
+            }
+            if (rotation != null) {
+                writeRotationMonthsBefore(format, writer, memberId, rotation, rotation.lastMonth.plusMonths(1));
+            }
+            writeFooter(format, writer);
+            writer.flush();
+        }
+    }
+
+    // 순환 근무 기간 중 아직 출력하지 않은 달을 until 전까지 출력
+    private void writeRotationMonthsBefore(ShiftExportFormat format, Writer writer, Long memberId,
+                                           RotationMonths rotation, YearMonth until) throws IOException {
+        for (; rotation.nextMonth.isBefore(until) && !rotation.nextMonth.isAfter(rotation.lastMonth);
+             rotation.nextMonth = rotation.nextMonth.plusMonths(1)) {
+            YearMonth month = rotation.nextMonth;
+            for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+                WorkTimeType type = rotation.overrides.containsKey(date)
+                        ? rotation.overrides.get(date)
+                        : rotation.rotation.typeAt(date);
+                if (type != null && rotation.rotation.covers(date)) {
+                    writeDay(format, writer, memberId, date, type, rotation.rotation.getWorkTimeProfileId());
+                }
+            }
+            writer.flush();
+        }
+    }
+
+    private RotationMonths toRotationMonths(WorkRotation rotation) {
+        Map<LocalDate, WorkTimeType> overrides = new HashMap<>();
+        for (WorkRotationOverride override : workRotationOverrideRepository.findByRotation_IdOrderByWorkDateAsc(rotation.getId())) {
+            overrides.put(override.getWorkDate(), override.getWorkTimeType());
+        }
+        YearMonth lastMonth = rotation.getEndDate() != null
+                ? YearMonth.from(rotation.getEndDate())
+                : YearMonth.now().plusMonths(rotationMonthsAhead);
+        return new RotationMonths(rotation, overrides, YearMonth.from(rotation.getAnchorDate()), lastMonth);
+    }
+
+    // 내보내는 중인 순환 근무 (nextMonth: 다음에 출력할 달, 월별 근무표가 있는 달은 건너뜀)
+    private static final class RotationMonths {
+        private final WorkRotation rotation;
+        private final Map<LocalDate, WorkTimeType> overrides;
+        private final YearMonth lastMonth;
+        private YearMonth nextMonth;
+
+        private RotationMonths(WorkRotation rotation, Map<LocalDate, WorkTimeType> overrides,
+                               YearMonth firstMonth, YearMonth lastMonth) {
+            this.rotation = rotation;
+            this.overrides = overrides;
+            this.nextMonth = firstMonth;
+            this.lastMonth = lastMonth;
+        }
+
+        // 월별 근무표가 있는 달은 근무표가 우선
+        void skip(YearMonth calendarMonth) {
+            if (!nextMonth.isAfter(calendarMonth)) {
+                nextMonth = calendarMonth.plusMonths(1);
+            }
+        }
+    }
+
+    private void writePackedMonth(ShiftExportFormat format, Writer writer, Long memberId, ShiftExportRow row) throws IOException {
+        YearMonth yearMonth = YearMonth.from(row.startDate());
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            WorkTimeType type = ShiftCode.typeAt(row.shiftCode(), day);
+            if (type != null) {
+                writeDay(format, writer, memberId, yearMonth.atDay(day), type, row.workTimeProfileId());
+            }
+        }
+    }
+
+    private void writeHeader(ShiftExportFormat format, Writer writer) throws IOException {
+        switch (format) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 포함
+            case CSV -> writer.write("\uFEFFdate,workType,workTypeName,startTime,endTime\n");
+            case ICS -> writer.write("BEGIN:VCALENDAR" + CRLF
+                    + "VERSION:2.0" + CRLF
+                    + "PRODID:-//Offnal//Shifterz//KO" + CRLF
+                    + "CALSCALE:GREGORIAN" + CRLF);
+        }
+    }
+
+    private void writeDay(ShiftExportFormat format, Writer writer, Long memberId,
+                          LocalDate date, WorkTimeType type, Long workTimeProfileId) throws IOException {
+        WorkTime workTime = type != WorkTimeType.OFF
+                ? workTimeProfileCache.get(workTimeProfileId).get(type.getKey())
+                : null;
+
+        switch (format) {
+            case CSV -> writer.write(date + "," + type.name() + "," + type.getKoreanName() + ","
+                    + (workTime != null ? workTime.getStartTime() : "") + ","
+                    + (workTime != null ? workTime.getEndTime() : "") + "\n");
+            case ICS -> {
+                writer.write("BEGIN:VEVENT" + CRLF);
+                writer.write("UID:" + memberId + "-" + date.format(ICS_DATE) + "@shifterz" + CRLF);
+                writer.write("DTSTAMP:" + LocalDateTime.now(ZoneOffset.UTC).format(ICS_DATE_TIME) + "Z" + CRLF);
+                if (workTime != null) {
+                    // 종료 시간이 시작 시간보다 이르면 다음 날 종료 (ex: 야간 22:00 ~ 06:00)
+                    LocalDateTime start = date.atTime(workTime.getStartTime());
+                    LocalDate endDate = workTime.getEndTime().isAfter(workTime.getStartTime()) ? date : date.plusDays(1);
+                    writer.write("DTSTART:" + start.format(ICS_DATE_TIME) + CRLF);
+                    writer.write("DTEND:" + endDate.atTime(workTime.getEndTime()).format(ICS_DATE_TIME) + CRLF);
+                } else {
+                    // 휴일이거나 근무 시간 정보가 없으면 종일 일정
+                    writer.write("DTSTART;VALUE=DATE:" + date.format(ICS_DATE) + CRLF);
+                    writer.write("DTEND;VALUE=DATE:" + date.plusDays(1).format(ICS_DATE) + CRLF);
+                }
+                writer.write("SUMMARY:" + type.getKoreanName() + CRLF);
+                writer.write("CATEGORIES:" + type.name() + CRLF);
+                writer.write("END:VEVENT" + CRLF);
+            }
+        }
+    }
+
+    private void writeFooter(ShiftExportFormat format, Writer writer) throws IOException {
+        if (format == ShiftExportFormat.ICS) {
+            writer.write("END:VCALENDAR" + CRLF);
+        }
+    }
+}
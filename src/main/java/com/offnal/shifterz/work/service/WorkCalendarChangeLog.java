@@ -0,0 +1,99 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.ScheduledDay;
+import com.offnal.shifterz.work.domain.WorkCalendarOutbox;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeBatchRepository;
+import com.offnal.shifterz.work.repository.WorkCalendarOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 근무표 쓰기 트랜잭션 안에서 바뀐 날짜를 회원별 버전과 함께 기록한다.
+ * 앱은 마지막으로 받은 버전 이후의 기록만 받아 근무표를 갱신한다 (GET /works/calendar/changes).
+ * 날짜를 특정할 수 없는 변경(순환 근무 등록/삭제)은 work_date 가 null 인 행으로 기록해 전체 근무표를 다시 받게 한다.
+ * work.outbox.enabled=true 이면 같은 트랜잭션에서 아웃박스 이벤트도 저장해, 커밋된 변경만 WorkCalendarOutboxDispatcher 가 프로젝션에 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkCalendarChangeLog {
+
+    private final WorkCalendarChangeBatchRepository changeBatchRepository;
+    private final WorkCalendarOutboxRepository outboxRepository;
+    private final WorkScheduleReader workScheduleReader;
+
+    @Value("${work.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
+    // 날짜별 변경 후 근무 유형 기록 + 프로젝션 전달용 아웃박스 이벤트 저장 (바뀐 날짜가 없으면 버전을 올리지 않음)
+    public void append(Long memberId, Map<LocalDate, WorkTimeType> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        long version = changeBatchRepository.nextVersion(memberId);
+        changeBatchRepository.insertAll(memberId, version, days);
+        saveOutbox(memberId, version, Collections.min(days.keySet()), Collections.max(days.keySet()));
+    }
+
+    // 날짜별로 지금 보이는 근무 유형 기록 (월별 근무표 -> 순환 근무 순으로 반영한 결과, 근무 정보가 없으면 null)
+    // 같은 트랜잭션에서 변경을 반영한 뒤 호출해야 함
+    public void appendResolved(Long memberId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, WorkTimeType> types = new HashMap<>();
+        for (ScheduledDay day : workScheduleReader.readDays(memberId, Collections.min(dates), Collections.max(dates))) {
+            types.put(day.date(), day.type());
+        }
+
+        Map<LocalDate, WorkTimeType> days = new TreeMap<>();
+        for (LocalDate date : dates) {
+            days.put(date, types.get(date));
+        }
+        append(memberId, days);
+    }
+
+    // 근무표를 등록/삭제한 월의 모든 날짜 기록 (삭제한 달도 순환 근무가 채우는 날짜는 순환 근무 유형으로 기록)
+    public void appendMonths(Long memberId, Collection<YearMonth> months) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (YearMonth month : months) {
+            for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+                dates.add(date);
+            }
+        }
+        appendResolved(memberId, dates);
+    }
+
+    // 전체 근무표를 다시 받아야 하는 변경 기록 (순환 근무 등록/삭제처럼 기간이 정해지지 않은 변경, 아웃박스 날짜 범위도 null)
+    public void appendFullResync(Long memberId) {
+        long version = changeBatchRepository.nextVersion(memberId);
+        changeBatchRepository.insertFullResync(memberId, version);
+        saveOutbox(memberId, version, null, null);
+    }
+
+    private void saveOutbox(Long memberId, long version, LocalDate fromDate, LocalDate toDate) {
+        if (!outboxEnabled) {
+            return;
+        }
+
+        outboxRepository.save(WorkCalendarOutbox.builder()
+                .memberId(memberId)
+                .version(version)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
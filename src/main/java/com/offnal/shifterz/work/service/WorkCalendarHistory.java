@@ -0,0 +1,111 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.domain.ShiftCode;
+import com.offnal.shifterz.work.domain.ShiftDelta;
+import com.offnal.shifterz.work.domain.WorkCalendar;
+import com.offnal.shifterz.work.domain.WorkCalendarRevision;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkCalendarRevisionResDto;
+import com.offnal.shifterz.work.repository.WorkCalendarRevisionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 근무표 수정 이력.
+ * 등록 시와 snapshot-interval 번째 이력마다 전체 ShiftCode 를, 그 사이에는 바뀐 날짜만 저장한다.
+ * 특정 이력은 가장 가까운 이전 스냅샷에 변경분(최대 snapshot-interval - 1 개)을 차례로 적용해 복원한다.
+ */
+@Component
+public class WorkCalendarHistory {
+
+    private final WorkCalendarRevisionRepository revisionRepository;
+    private final int snapshotInterval;
+
+    public WorkCalendarHistory(
+            WorkCalendarRevisionRepository revisionRepository,
+            @Value("${work.calendar.snapshot-interval:10}") int snapshotInterval
+    ) {
+        this.revisionRepository = revisionRepository;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    // 새로 등록한 근무표의 첫 이력 (전체 스냅샷)
+    public void recordCreated(WorkCalendar calendar, String shiftCode) {
+        revisionRepository.save(WorkCalendarRevision.builder()
+                .workCalendarId(calendar.getId())
+                .revision(calendar.getRevision())
+                .snapshot(true)
+                .payload(shiftCode)
+                .changedDays(countDays(shiftCode))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 수정 이력 추가 (이력이 없던 근무표의 첫 수정과 snapshot-interval 번째 이력은 전체 스냅샷)
+    public void recordUpdated(WorkCalendar calendar, Map<Integer, WorkTimeType> changes, String shiftCodeAfter) {
+        int revision = calendar.nextRevision();
+        boolean snapshot = revision == 1 || (revision - 1) % snapshotInterval == 0;
+
+        revisionRepository.save(WorkCalendarRevision.builder()
+                .workCalendarId(calendar.getId())
+                .revision(revision)
+                .snapshot(snapshot)
+                .payload(snapshot ? shiftCodeAfter : ShiftDelta.encode(changes))
+                .changedDays(changes.size())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 특정 이력 시점의 ShiftCode 복원
+    public String rebuild(WorkCalendar calendar, int revision) {
+        if (revision < 1 || revision > calendar.getRevision()) {
+            throw new CustomException(ErrorCode.REVISION_NOT_FOUND);
+        }
+
+        WorkCalendarRevision base = revisionRepository
+                .findTopByWorkCalendarIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(calendar.getId(), revision)
+                .orElseThrow(() -> new CustomException(ErrorCode.REVISION_NOT_FOUND));
+
+        String shiftCode = base.getPayload();
+        if (base.getRevision() < revision) {
+            List<WorkCalendarRevision> deltas = revisionRepository.findByWorkCalendarIdAndRevisionBetweenOrderByRevisionAsc(
+                    calendar.getId(), base.getRevision() + 1, revision);
+            for (WorkCalendarRevision delta : deltas) {
+                shiftCode = ShiftDelta.applyTo(shiftCode, delta.getPayload());
+            }
+        }
+        return shiftCode;
+    }
+
+    public List<WorkCalendarRevisionResDto> getRevisions(Long calendarId) {
+        return revisionRepository.findByWorkCalendarIdOrderByRevisionDesc(calendarId).stream()
+                .map(revision -> WorkCalendarRevisionResDto.builder()
+                        .revision(revision.getRevision())
+                        .changedDays(revision.getChangedDays())
+                        .createdAt(revision.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    public void deleteAll(Collection<Long> calendarIds) {
+        revisionRepository.deleteAllByWorkCalendarIds(calendarIds);
+    }
+
+    // 근무 정보가 있는 날짜 수
+    private int countDays(String shiftCode) {
+        int days = 0;
+        for (int day = 1; day <= shiftCode.length(); day++) {
+            if (ShiftCode.typeAt(shiftCode, day) != null) {
+                days++;
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,155 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.converter.WorkCalendarConverter;
+import com.offnal.shifterz.work.domain.WorkTime;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkCalendarImportDto;
+import com.offnal.shifterz.work.dto.WorkCalendarImportResDto;
+import com.offnal.shifterz.work.dto.WorkCalendarRequestDto;
+import com.offnal.shifterz.work.dto.WorkCalendarUnitDto;
+import com.offnal.shifterz.work.dto.WorkTimeDto;
+import com.offnal.shifterz.work.repository.WorkCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * iCalendar(ICS) 파일을 근무표로 가져온다.
+ * 일정을 하나씩 읽어 월별 날짜 -> 근무 유형만 모으고 (메모리는 일정 수가 아닌 월 수에 비례),
+ * 모든 달을 기존 근무표 저장 경로(saveWorkCalendar, 배치 INSERT)로 한 트랜잭션에 저장한다 (일부 달만 저장되지 않음).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkCalendarImportService {
+
+    // 일정 시작 시간과 근무 시작 시간의 최대 허용 차이 (분)
+    private static final int MATCH_TOLERANCE_MINUTES = 90;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final WorkCalendarService workCalendarService;
+    private final WorkCalendarRepository workCalendarRepository;
+
+    public WorkCalendarImportResDto importIcs(Long memberId, WorkCalendarImportDto importDto, InputStream ics) {
+        Map<WorkTimeType, Integer> startMinutes = toStartMinutes(importDto.getWorkTimes());
+
+        Map<YearMonth, Map<String, String>> shiftsByMonth = new TreeMap<>();
+        int importedDays = 0;
+        int skippedEvents = 0;
+        try {
+            IcsEventReader reader = new IcsEventReader(
+                    new InputStreamReader(ics, StandardCharsets.UTF_8), ZoneId.systemDefault());
+
+            IcsEventReader.IcsEvent event;
+            while ((event = reader.next()) != null) {
+                WorkTimeType type = resolveType(event, startMinutes);
+                if (type == null) {
+                    skippedEvents++;
+                    continue;
+                }
+                // 같은 날짜에 일정이 여러 개면 먼저 나온 일정 사용
+                String previous = shiftsByMonth
+                        .computeIfAbsent(YearMonth.from(event.date()), yearMonth -> new HashMap<>())
+                        .putIfAbsent(String.valueOf(event.date().getDayOfMonth()), type.getKey());
+                if (previous == null) {
+                    importedDays++;
+                }
+            }
+        } catch (IcsEventReader.UnsupportedPropertyException e) {
+            log.warn("[IcsImport] 반복 일정 거부 memberId={}, property={}", memberId, e.getProperty());
+            throw new CustomException(ErrorCode.ICS_RECURRENCE_NOT_SUPPORTED);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_ICS_FILE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (shiftsByMonth.isEmpty()) {
+            throw new CustomException(ErrorCode.CALENDAR_SHIFT_REQUIRED);
+        }
+
+        // 일부 달만 저장되는 일이 없도록 저장 전에 기존 근무표와 겹치는지 한 번에 확인
+        boolean exists = workCalendarRepository.existsByMemberIdAndStartDateIn(memberId,
+                shiftsByMonth.keySet().stream().map(yearMonth -> yearMonth.atDay(1)).toList());
+        if (exists) {
+            throw new CustomException(ErrorCode.CALENDAR_DUPLICATION);
+        }
+
+        List<WorkCalendarUnitDto> calendars = new ArrayList<>();
+        for (Map.Entry<YearMonth, Map<String, String>> entry : shiftsByMonth.entrySet()) {
+            calendars.add(WorkCalendarUnitDto.builder()
+                    .year(String.valueOf(entry.getKey().getYear()))
+                    .month(String.valueOf(entry.getKey().getMonthValue()))
+                    .shifts(entry.getValue())
+                    .build());
+        }
+        // 모든 달을 한 트랜잭션으로 저장 (동시에 같은 달이 저장돼 중복이 나면 전체 롤백)
+        workCalendarService.saveWorkCalendar(WorkCalendarRequestDto.builder()
+                .calendarName(importDto.getCalendarName())
+                .workGroup(importDto.getWorkGroup())
+                .workTimes(importDto.getWorkTimes())
+                .calendars(calendars)
+                .build());
+
+        return WorkCalendarImportResDto.builder()
+                .importedMonths(shiftsByMonth.size())
+                .importedDays(importedDays)
+                .skippedEvents(skippedEvents)
+                .build();
+    }
+
+    // 일정 -> 근무 유형 (CATEGORIES 가 근무 유형이면 우선, 종일 일정은 휴일, 그 외 가장 가까운 근무 시작 시간)
+    private WorkTimeType resolveType(IcsEventReader.IcsEvent event, Map<WorkTimeType, Integer> startMinutes) {
+        if (event.category() != null) {
+            for (WorkTimeType type : WorkTimeType.values()) {
+                if (type.name().equalsIgnoreCase(event.category())) {
+                    return type;
+                }
+            }
+        }
+        if (event.startTime() == null) {
+            return WorkTimeType.OFF;
+        }
+
+        int start = event.startTime().getHour() * 60 + event.startTime().getMinute();
+        WorkTimeType closest = null;
+        int closestDistance = MATCH_TOLERANCE_MINUTES + 1;
+        for (Map.Entry<WorkTimeType, Integer> entry : startMinutes.entrySet()) {
+            int diff = Math.abs(entry.getValue() - start);
+            // 자정을 넘는 차이도 가깝게 계산 (ex: 23:30 과 00:00 은 30분 차이)
+            int distance = Math.min(diff, MINUTES_PER_DAY - diff);
+            if (distance < closestDistance) {
+                closest = entry.getKey();
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    // 근무 유형별 시작 시각(분) (기호나 시간 형식이 잘못되면 파일을 읽기 전에 INVALID_REQUEST)
+    private Map<WorkTimeType, Integer> toStartMinutes(Map<String, WorkTimeDto> workTimes) {
+        Map<WorkTimeType, Integer> startMinutes = new EnumMap<>(WorkTimeType.class);
+        for (WorkTime workTime : WorkCalendarConverter.toWorkTimeMap(workTimes).values()) {
+            LocalTime startTime = workTime.getStartTime();
+            startMinutes.put(workTime.getTimeType(), startTime.getHour() * 60 + startTime.getMinute());
+        }
+        return startMinutes;
+    }
+}
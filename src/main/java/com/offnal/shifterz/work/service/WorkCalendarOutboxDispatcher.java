@@ -0,0 +1,168 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.WorkCalendarOutbox;
+import com.offnal.shifterz.work.event.WorkCalendarOutboxEvent;
+import com.offnal.shifterz.work.event.WorkCalendarProjection;
+import com.offnal.shifterz.work.repository.WorkCalendarOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스에 쌓인 근무표 변경을 배치로 꺼내 등록된 프로젝션에 전달한다.
+ * 배치는 짧은 트랜잭션에서 점유 토큰과 만료 시각(lease-ms)을 기록해 가져오고, 프로젝션은 그 트랜잭션이 커밋된 뒤 행 잠금 없이 실행한다.
+ * 전달한 이벤트는 다시 짧은 트랜잭션에서 삭제하므로, 중간에 노드가 죽으면 점유가 만료된 뒤 다른 노드가 다시 전달한다.
+ * 프로젝션 하나가 실패한 이벤트는 시도 횟수를 올리고 retry-delay-ms 뒤에 다시 전달하며, max-attempts 를 넘기면 로그를 남기고 버린다.
+ * work.outbox.enabled=true 일 때만 동작한다 (꺼져 있으면 WorkCalendarChangeLog 도 아웃박스에 쓰지 않음).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "work.outbox.enabled", havingValue = "true")
+public class WorkCalendarOutboxDispatcher {
+
+    private final WorkCalendarOutboxRepository outboxRepository;
+    private final List<WorkCalendarProjection> projections;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryDelay;
+
+    // 가장 오래된 대기 이벤트의 나이 (마지막 확인 시점 기준)
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Timer deliveryDelay;
+    private final Counter dropped;
+
+    public WorkCalendarOutboxDispatcher(
+            WorkCalendarOutboxRepository outboxRepository,
+            List<WorkCalendarProjection> projections,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${work.outbox.batch-size:200}") int batchSize,
+            @Value("${work.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${work.outbox.lease-ms:60000}") long leaseMs,
+            @Value("${work.outbox.retry-delay-ms:5000}") long retryDelayMs
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.projections = projections;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+
+        // work.outbox.lag: 아직 전달되지 않은 가장 오래된 변경의 대기 시간
+        Gauge.builder("work.outbox.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        // work.outbox.delivery.delay: 커밋 후 프로젝션 전달까지 걸린 시간
+        this.deliveryDelay = meterRegistry.timer("work.outbox.delivery.delay");
+        this.dropped = meterRegistry.counter("work.outbox.dropped");
+    }
+
+    @Scheduled(fixedDelayString = "${work.outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize); // 가득 찬 배치였으면 남은 이벤트 계속 처리 (실패한 이벤트는 재시도 시각까지 점유되지 않음)
+        } catch (Exception e) {
+            log.error("[WorkCalendarOutbox] 전달 실패: {}", e.getMessage(), e);
+        } finally {
+            updateLag();
+        }
+    }
+
+    // 한 배치를 점유해 전달하고 점유한 이벤트 수 반환
+    int dispatchBatch() {
+        String token = UUID.randomUUID().toString();
+        List<WorkCalendarOutbox> batch = claimBatch(token);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 프로젝션은 점유 트랜잭션이 끝난 뒤 실행 (커넥션·행 잠금을 잡고 있지 않음)
+        List<Long> done = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (WorkCalendarOutbox outbox : batch) {
+            WorkCalendarOutboxEvent event = outbox.toEvent();
+            if (deliver(event)) {
+                deliveryDelay.record(Duration.between(event.occurredAt(), LocalDateTime.now()));
+                done.add(outbox.getId());
+            } else if (outbox.getAttempts() + 1 >= maxAttempts) {
+                log.error("[WorkCalendarOutbox] 재시도 초과로 이벤트 폐기 id={} memberId={} version={}",
+                        event.id(), event.memberId(), event.version());
+                dropped.increment();
+                done.add(outbox.getId());
+            } else {
+                failed.add(outbox.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                outboxRepository.deleteClaimed(done, token);
+            }
+            if (!failed.isEmpty()) {
+                outboxRepository.releaseFailed(failed, token, LocalDateTime.now().plus(retryDelay));
+            }
+        });
+        return batch.size();
+    }
+
+    // 점유되지 않은 이벤트를 lease 동안 점유하고 조회 (짧은 트랜잭션 하나)
+    private List<WorkCalendarOutbox> claimBatch(String token) {
+        List<WorkCalendarOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (outboxRepository.claimNextBatch(token, now, now.plus(lease), batchSize) == 0) {
+                return List.of();
+            }
+            return outboxRepository.findByClaimTokenOrderByIdAsc(token);
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    // 모든 프로젝션에 전달 (하나라도 실패하면 false, 이미 성공한 프로젝션은 재시도 때 다시 받음)
+    private boolean deliver(WorkCalendarOutboxEvent event) {
+        boolean delivered = true;
+        for (WorkCalendarProjection projection : projections) {
+            try {
+                projection.handle(event);
+                meterRegistry.counter("work.outbox.delivered", "projection", projection.name()).increment();
+            } catch (Exception e) {
+                log.warn("[WorkCalendarOutbox] 프로젝션 실패 projection={} id={} : {}",
+                        projection.name(), event.id(), e.getMessage());
+                meterRegistry.counter("work.outbox.failed", "projection", projection.name()).increment();
+                delivered = false;
+            }
+        }
+        return delivered;
+    }
+
+    private void updateLag() {
+        try {
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+            lagMillis.set(oldest != null ? Math.max(0L, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0L);
+        } catch (Exception e) {
+            log.warn("[WorkCalendarOutbox] 대기 시간 확인 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.ShiftCode;
+import com.offnal.shifterz.work.domain.WorkCalendar;
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkInstance;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.repository.WorkCalendarRepository;
+import com.offnal.shifterz.work.repository.WorkInstanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 ROWS 근무표를 PACKED(shiftCode) 로 변환하는 기동 시 마이그레이션.
+ * work.calendar.pack-existing=true 일 때만 실행되며, 근무표 ID 순서로 나눠 배치마다 별도 트랜잭션으로 변환한다.
+ * 중간에 중단돼도 이미 변환된 근무표는 PACKED 이므로 다시 실행하면 남은 근무표부터 이어서 변환된다.
+ */
+@Slf4j
+@Component
+public class WorkCalendarPackingMigration implements ApplicationRunner {
+
+    private final WorkCalendarRepository workCalendarRepository;
+    private final WorkInstanceRepository workInstanceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public WorkCalendarPackingMigration(
+            WorkCalendarRepository workCalendarRepository,
+            WorkInstanceRepository workInstanceRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${work.calendar.pack-existing:false}") boolean enabled,
+            @Value("${work.calendar.pack-batch-size:200}") int batchSize
+    ) {
+        this.workCalendarRepository = workCalendarRepository;
+        this.workInstanceRepository = workInstanceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        int packed = 0;
+        while (true) {
+            long afterId = lastId;
+            BatchResult result = transactionTemplate.execute(status -> packBatch(afterId));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            lastId = result.lastId();
+            packed += result.packed();
+        }
+        log.info("[WorkCalendarPacking] 변환 완료 calendars={}", packed);
+    }
+
+    // lastId 이후 ROWS 근무표 한 배치를 변환 (근무표 UPDATE 는 배치로, 근무일 행은 DELETE 1회)
+    private BatchResult packBatch(long lastId) {
+        List<WorkCalendar> calendars = workCalendarRepository.findByStorageAndIdGreaterThanOrderByIdAsc(
+                WorkCalendarStorage.ROWS, lastId, PageRequest.of(0, batchSize));
+        if (calendars.isEmpty()) {
+            return new BatchResult(null, 0);
+        }
+
+        List<Long> calendarIds = calendars.stream().map(WorkCalendar::getId).toList();
+        Map<Long, List<WorkInstance>> instancesByCalendar = workInstanceRepository.findByWorkCalendar_IdIn(calendarIds).stream()
+                .collect(Collectors.groupingBy(instance -> instance.getWorkCalendar().getId()));
+
+        List<Long> packedIds = new ArrayList<>();
+        for (WorkCalendar calendar : calendars) {
+            Map<Integer, WorkTimeType> days = new HashMap<>();
+            for (WorkInstance instance : instancesByCalendar.getOrDefault(calendar.getId(), List.of())) {
+                days.putIfAbsent(Integer.parseInt(instance.getWorkDay()), instance.getWorkTimeType());
+            }
+            try {
+                calendar.pack(ShiftCode.encode(days, calendar.toYearMonth().lengthOfMonth()));
+                packedIds.add(calendar.getId());
+            } catch (IllegalArgumentException e) {
+                // 해당 월에 없는 날짜가 저장된 근무표는 ROWS 로 남겨둠
+                log.warn("[WorkCalendarPacking] 변환 생략 calendarId={} : {}", calendar.getId(), e.getMessage());
+            }
+        }
+
+        // 근무표 변경을 먼저 반영한 뒤 근무일 행 삭제 (삭제 쿼리가 영속성 컨텍스트를 비움)
+        workCalendarRepository.flush();
+        if (!packedIds.isEmpty()) {
+            workInstanceRepository.deleteAllByWorkCalendarIds(packedIds);
+        }
+
+        return new BatchResult(calendarIds.get(calendarIds.size() - 1), packedIds.size());
+    }
+
+    private record BatchResult(Long lastId, int packed) {
+    }
+}
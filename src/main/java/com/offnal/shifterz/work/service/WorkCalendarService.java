@@ -4,116 +4,345 @@ import com.offnal.shifterz.global.common.AuthService;
 import com.offnal.shifterz.global.exception.CustomException;
 import com.offnal.shifterz.global.exception.ErrorCode;
 import com.offnal.shifterz.work.converter.WorkCalendarConverter;
+import com.offnal.shifterz.work.domain.ScheduledDay;
+import com.offnal.shifterz.work.domain.ShiftCode;
 import com.offnal.shifterz.work.domain.WorkCalendar;
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
 import com.offnal.shifterz.work.domain.WorkInstance;
 import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkCalendarChangesResDto;
 import com.offnal.shifterz.work.dto.WorkCalendarRequestDto;
+import com.offnal.shifterz.work.dto.WorkCalendarRevisionResDto;
 import com.offnal.shifterz.work.dto.WorkCalendarUnitDto;
 import com.offnal.shifterz.work.dto.WorkCalendarUpdateDto;
 import com.offnal.shifterz.work.dto.WorkDayResponseDto;
+import com.offnal.shifterz.work.dto.WorkMonthResponseDto;
+import com.offnal.shifterz.work.event.WorkCalendarChangedEvent;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeRepository;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeRow;
 import com.offnal.shifterz.work.repository.WorkCalendarRepository;
+import com.offnal.shifterz.work.repository.WorkCalendarView;
+import com.offnal.shifterz.work.repository.WorkInstanceBatchRepository;
 import com.offnal.shifterz.work.repository.WorkInstanceRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class WorkCalendarService {
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    private static final Pattern MONTH_PATTERN = Pattern.compile("0?[1-9]|1[0-2]");
+    // 기간 조회 최대 일수 (1년)
+    private static final int MAX_RANGE_DAYS = 366;
+    // 변경 조회 한 번에 돌려주는 최대 기록 수 (넘으면 전체 재조회 안내)
+    private static final int MAX_CHANGE_ROWS = 5000;
+
     private final WorkCalendarRepository workCalendarRepository;
     private final WorkInstanceRepository workInstanceRepository;
+    private final WorkInstanceBatchRepository workInstanceBatchRepository;
+    private final WorkScheduleReader workScheduleReader;
+    private final WorkTimeProfileCache workTimeProfileCache;
+    private final WorkCalendarChangeLog workCalendarChangeLog;
+    private final WorkCalendarHistory workCalendarHistory;
+    private final WorkCalendarChangeRepository workCalendarChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 새로 저장하는 근무표의 근무일 저장 방식
+    @Value("${work.calendar.storage:ROWS}")
+    private WorkCalendarStorage defaultStorage;
 
     @Transactional
     public void saveWorkCalendar(WorkCalendarRequestDto workCalendarRequestDto) {
 
         Long memberId = AuthService.getCurrentUserId();
 
-        for (WorkCalendarUnitDto unitDto : workCalendarRequestDto.getCalendars()) {
-            // 중복 년도,달의 캘린더 체크 (memberId, year, month 중복 체크)
-            boolean exists = workCalendarRepository.existsByMemberIdAndYearAndMonth(
-                    memberId, unitDto.getYear(), unitDto.getMonth());
+        // 같은 근무 시간이면 기존 프로필을 공유 (요청의 모든 달이 같은 프로필 사용)
+        Long workTimeProfileId = workTimeProfileCache.resolveId(
+                WorkCalendarConverter.toWorkTimeMap(workCalendarRequestDto.getWorkTimes()));
 
-            if (exists) {
+        List<WorkInstance> instances = new ArrayList<>();
+        List<YearMonth> months = new ArrayList<>();
+        for (WorkCalendarUnitDto unitDto : workCalendarRequestDto.getCalendars()) {
+            // 중복 년도,달의 캘린더 체크 (요청 안의 같은 달과 이미 저장된 (memberId, 해당 월 1일) 근무표)
+            YearMonth yearMonth = WorkCalendarConverter.toYearMonth(unitDto);
+            if (months.contains(yearMonth)
+                    || workCalendarRepository.existsByMemberIdAndStartDate(memberId, yearMonth.atDay(1))) {
                 throw new CustomException(ErrorCode.CALENDAR_DUPLICATION);
             }
 
-            WorkCalendar calendar = WorkCalendarConverter.toEntity(memberId, workCalendarRequestDto, unitDto);
-            WorkCalendar savedCalendar = workCalendarRepository.save(calendar);
-
-            List<WorkInstance> instances = WorkCalendarConverter.toWorkInstances(unitDto, savedCalendar);
-            workInstanceRepository.saveAll(instances);
+            WorkCalendar calendar = WorkCalendarConverter.toEntity(memberId, workCalendarRequestDto, unitDto, workTimeProfileId);
+            String shiftCode = WorkCalendarConverter.toShiftCode(unitDto.getShifts(), yearMonth);
+            if (defaultStorage == WorkCalendarStorage.PACKED) {
+                // 근무일을 근무표 행의 shiftCode 에 함께 저장 (근무일 행 INSERT 없음)
+                calendar.pack(shiftCode);
+            }
+            try {
+                // 같은 달의 동시 저장은 (member_id, start_date) 유니크 제약으로 막음
+                workCalendarRepository.save(calendar);
+            } catch (DataIntegrityViolationException e) {
+                throw new CustomException(ErrorCode.CALENDAR_DUPLICATION);
+            }
+            if (calendar.getStorage() == WorkCalendarStorage.ROWS) {
+                instances.addAll(WorkCalendarConverter.toWorkInstances(unitDto, calendar));
+            }
+            workCalendarHistory.recordCreated(calendar, shiftCode);
+            months.add(yearMonth);
         }
 
+        // 모든 달의 근무일을 JDBC 배치로 한 번에 저장
+        workInstanceBatchRepository.insertAll(instances);
+        // 근무표가 순환 근무를 가리므로 등록한 달의 모든 날짜를 기록 (근무표에 없는 날짜는 근무 정보 없음)
+        workCalendarChangeLog.appendMonths(memberId, months);
+
+        eventPublisher.publishEvent(new WorkCalendarChangedEvent(memberId));
     }
 
+    @Transactional(readOnly = true)
     public List<WorkDayResponseDto> getWorkDaysByYearAndMonth(String year, String month) {
 
         Long memberId = AuthService.getCurrentUserId();
 
-        List<WorkInstance> instances =
-                workInstanceRepository.findByWorkCalendar_MemberIdAndWorkCalendar_YearAndWorkCalendar_Month(memberId, year, month);
+        // 해당 월 근무표((member_id, start_date))와 그 근무일((work_calendar_id, work_date))을 한 번에 조회
+        YearMonth yearMonth = toYearMonth(year, month);
+        List<ScheduledDay> days = workScheduleReader.readDays(memberId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
 
-        return WorkCalendarConverter.toDayResponseDtoList(instances);
+        return WorkCalendarConverter.toDayResponseDtoList(days);
+    }
+
+    // 기간 내 근무일을 근무표(월)별로 묶어 반환 (최대 MAX_RANGE_DAYS 일)
+    @Transactional(readOnly = true)
+    public List<WorkMonthResponseDto> getWorkDaysByRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        Long memberId = AuthService.getCurrentUserId();
+
+        List<ScheduledDay> days = workScheduleReader.readDays(memberId, from, to);
+
+        return WorkCalendarConverter.toMonthResponseDtoList(days);
     }
 
     @Transactional
     public void updateWorkCalendar(String year, String month, WorkCalendarUpdateDto workCalendarUpdateDto) {
         Long memberId = AuthService.getCurrentUserId();
 
-        WorkCalendar calendar = workCalendarRepository
-                .findByMemberIdAndYearAndMonth(memberId, year, month)
-                .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+        WorkCalendar calendar = findCalendar(memberId, toYearMonth(year, month));
 
-        List<WorkInstance> existingInstance = workInstanceRepository.findByWorkCalendar_MemberIdAndWorkCalendar_YearAndWorkCalendar_Month(memberId, year, month);
+        applyDays(calendar, WorkCalendarConverter.toDayTypeMap(workCalendarUpdateDto.getShifts(), calendar.toYearMonth()));
+    }
 
-        Map<String, WorkInstance> existingMap = existingInstance.stream()
-                .collect(Collectors.toMap(WorkInstance::getWorkDay, wi -> wi));
+    // 근무표 수정 이력 목록 (최신순)
+    @Transactional(readOnly = true)
+    public List<WorkCalendarRevisionResDto> getRevisions(String year, String month) {
+        Long memberId = AuthService.getCurrentUserId();
 
-        for(Map.Entry<String, String> entry : workCalendarUpdateDto.getShifts().entrySet()){
-            String day = entry.getKey();
-            String workType = entry.getValue();
+        Long calendarId = workCalendarRepository
+                .findIdByMemberIdAndStartDate(memberId, toYearMonth(year, month).atDay(1))
+                .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
 
-            WorkInstance existing = existingMap.get(day);
-            WorkTimeType workTimeType = WorkTimeType.fromSymbol(workType);
+        return workCalendarHistory.getRevisions(calendarId);
+    }
 
-            if(existing != null){
-                workInstanceRepository.delete(existing);
+    // 근무표를 특정 이력 시점으로 되돌림 (revision 이 없으면 바로 이전 이력, 복원도 새 이력으로 남아 다시 되돌릴 수 있음)
+    @Transactional
+    public void restoreWorkCalendar(String year, String month, Integer revision) {
+        Long memberId = AuthService.getCurrentUserId();
 
-                WorkInstance newInstance = WorkInstance.builder()
-                        .workDay(day)
-                        .workTimeType(workTimeType)
-                        .workCalendar(calendar)
-                        .build();
+        WorkCalendar calendar = findCalendar(memberId, toYearMonth(year, month));
 
-                workInstanceRepository.save(newInstance);
-            }
-            else{
-                WorkInstance newInstance = WorkInstance.builder()
-                        .workDay(day)
-                        .workTimeType(workTimeType)
-                        .workCalendar(calendar)
-                        .build();
-
-                workInstanceRepository.save(newInstance);
-            }
+        String shiftCode = workCalendarHistory.rebuild(calendar, revision != null ? revision : calendar.getRevision() - 1);
+
+        // 복원 시점에 근무 정보가 없던 날짜는 삭제
+        Map<Integer, WorkTimeType> days = new TreeMap<>();
+        for (int day = 1; day <= shiftCode.length(); day++) {
+            days.put(day, ShiftCode.typeAt(shiftCode, day));
         }
+        applyDays(calendar, days);
     }
 
     @Transactional
     public void deleteWorkCalendar(String year, String month) {
         Long memberId = AuthService.getCurrentUserId();
 
-        WorkCalendar calendar = workCalendarRepository
-                .findByMemberIdAndYearAndMonth(memberId, year, month)
+        YearMonth yearMonth = toYearMonth(year, month);
+        Long calendarId = workCalendarRepository
+                .findIdByMemberIdAndStartDate(memberId, yearMonth.atDay(1))
                 .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
 
-        workInstanceRepository.deleteAllByWorkCalendar(calendar);
-        workCalendarRepository.delete(calendar);
+        deleteCalendars(List.of(calendarId));
+        workCalendarChangeLog.appendMonths(memberId, List.of(yearMonth));
+
+        eventPublisher.publishEvent(new WorkCalendarChangedEvent(memberId));
+    }
+
+    @Transactional
+    public void deleteWorkCalendars(String fromYear, String toYear) {
+        Long memberId = AuthService.getCurrentUserId();
+
+        if (!YEAR_PATTERN.matcher(fromYear).matches() || !YEAR_PATTERN.matcher(toYear).matches()
+                || fromYear.compareTo(toYear) > 0) {
+            throw new CustomException(ErrorCode.INVALID_YEAR_FORMAT);
+        }
+
+        // fromYear 1월 ~ toYear 12월 근무표 ((member_id, start_date) 인덱스 범위 조회)
+        List<WorkCalendarView> calendars = workCalendarRepository.findViewsByMemberIdsAndStartDateBetween(
+                List.of(memberId),
+                LocalDate.of(Integer.parseInt(fromYear), 1, 1),
+                LocalDate.of(Integer.parseInt(toYear), 12, 1));
+        if (calendars.isEmpty()) {
+            throw new CustomException(ErrorCode.CALENDAR_NOT_FOUND);
+        }
+
+        deleteCalendars(calendars.stream().map(WorkCalendarView::id).toList());
+        workCalendarChangeLog.appendMonths(memberId,
+                calendars.stream().map(WorkCalendarView::toYearMonth).toList());
+
+        eventPublisher.publishEvent(new WorkCalendarChangedEvent(memberId));
+    }
+
+    // since 이후 바뀐 날짜 (변경이 없으면 인덱스 조회 한 번으로 빈 응답)
+    @Transactional(readOnly = true)
+    public WorkCalendarChangesResDto getChangesSince(long since) {
+        if (since < 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Long memberId = AuthService.getCurrentUserId();
+
+        List<WorkCalendarChangeRow> rows = workCalendarChangeRepository.findRowsAfter(
+                memberId, since, PageRequest.of(0, MAX_CHANGE_ROWS + 1));
+        // 오래된 버전이거나 순환 근무 등록/삭제(날짜 없는 기록)가 있으면 날짜별 변경 대신 전체 근무표를 다시 받도록 안내
+        if (rows.size() > MAX_CHANGE_ROWS || rows.stream().anyMatch(row -> row.workDate() == null)) {
+            return WorkCalendarChangesResDto.builder()
+                    .version(workCalendarChangeRepository.findCurrentVersion(memberId))
+                    .fullResync(true)
+                    .days(List.of())
+                    .build();
+        }
+
+        return WorkCalendarConverter.toChangesResDto(since, rows);
+    }
+
+    private YearMonth toYearMonth(String year, String month) {
+        if (!YEAR_PATTERN.matcher(year).matches()) {
+            throw new CustomException(ErrorCode.INVALID_YEAR_FORMAT);
+        }
+        if (!MONTH_PATTERN.matcher(month).matches()) {
+            throw new CustomException(ErrorCode.INVALID_MONTH_FORMAT);
+        }
+        return YearMonth.of(Integer.parseInt(year), Integer.parseInt(month));
+    }
+
+    // 수정/복원할 근무표 (커밋까지 행 잠금)
+    private WorkCalendar findCalendar(Long memberId, YearMonth yearMonth) {
+        return workCalendarRepository
+                .findForUpdateByMemberIdAndStartDate(memberId, yearMonth.atDay(1))
+                .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+    }
+
+    // 날짜(일)별 근무 유형을 근무표에 반영 (값이 null 이면 근무 정보 삭제)
+    // 실제로 바뀐 날짜가 있으면 수정 이력, 변경 기록, 변경 이벤트를 남김
+    private void applyDays(WorkCalendar calendar, Map<Integer, WorkTimeType> days) {
+        Map<Integer, WorkTimeType> changedDays = new TreeMap<>();
+        String shiftCodeAfter;
+
+        if (calendar.getStorage() == WorkCalendarStorage.PACKED) {
+            // shiftCode 에서 바뀐 날짜의 기호만 교체 (근무표 행 UPDATE 1회)
+            String shiftCode = calendar.getShiftCode();
+            for (Map.Entry<Integer, WorkTimeType> entry : days.entrySet()) {
+                if (ShiftCode.typeAt(shiftCode, entry.getKey()) != entry.getValue()) {
+                    shiftCode = ShiftCode.with(shiftCode, entry.getKey(), entry.getValue());
+                    changedDays.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (changedDays.isEmpty()) {
+                return;
+            }
+            calendar.changeShiftCode(shiftCode);
+            shiftCodeAfter = shiftCode;
+        } else {
+            // 날짜(일) 기준으로 기존 근무일과 비교
+            Map<Integer, WorkInstance> existingMap = workInstanceRepository.findByWorkCalendar(calendar).stream()
+                    .collect(Collectors.toMap(wi -> Integer.parseInt(wi.getWorkDay()), wi -> wi, (first, second) -> first));
+
+            List<WorkInstance> newInstances = new ArrayList<>();
+            List<Long> removedIds = new ArrayList<>();
+            for (Map.Entry<Integer, WorkTimeType> entry : days.entrySet()) {
+                int day = entry.getKey();
+                WorkTimeType workTimeType = entry.getValue();
+                WorkInstance existing = existingMap.get(day);
+
+                if (workTimeType == null) {
+                    // 근무 정보가 없어진 날짜는 DELETE
+                    if (existing != null) {
+                        removedIds.add(existing.getId());
+                        existingMap.remove(day);
+                        changedDays.put(day, null);
+                    }
+                }
+                else if (existing == null) {
+                    // 새로 추가된 날짜만 INSERT
+                    newInstances.add(WorkCalendarConverter.toWorkInstance(calendar, String.valueOf(day), workTimeType));
+                    changedDays.put(day, workTimeType);
+                }
+                else if (existing.getWorkTimeType() != workTimeType) {
+                    // 바뀐 날짜는 같은 행을 수정 (변경 감지 -> 커밋 시 배치 UPDATE)
+                    existing.changeWorkTimeType(workTimeType);
+                    changedDays.put(day, workTimeType);
+                }
+                // 근무 유형이 같은 날짜는 건너뜀
+            }
+            if (changedDays.isEmpty()) {
+                return;
+            }
+
+            workInstanceBatchRepository.insertAll(newInstances);
+            if (!removedIds.isEmpty()) {
+                workInstanceRepository.deleteAllByIdInBatch(removedIds);
+            }
+            shiftCodeAfter = toShiftCode(existingMap, newInstances, calendar.toYearMonth());
+        }
+
+        workCalendarHistory.recordUpdated(calendar, changedDays, shiftCodeAfter);
+        workCalendarChangeLog.append(calendar.getMemberId(),
+                WorkCalendarConverter.toDateTypeMap(changedDays, calendar.toYearMonth()));
+        eventPublisher.publishEvent(new WorkCalendarChangedEvent(calendar.getMemberId()));
+    }
+
+    // 반영 후 근무일 행 -> ShiftCode (수정 이력 스냅샷용, 해당 월에 없는 날짜로 저장된 이전 행은 제외)
+    private String toShiftCode(Map<Integer, WorkInstance> remaining, List<WorkInstance> added, YearMonth yearMonth) {
+        Map<Integer, WorkTimeType> days = new TreeMap<>();
+        remaining.forEach((day, instance) -> {
+            if (yearMonth.isValidDay(day)) {
+                days.put(day, instance.getWorkTimeType());
+            }
+        });
+        added.forEach(instance -> days.put(instance.getWorkDate().getDayOfMonth(), instance.getWorkTimeType()));
+        return ShiftCode.encode(days, yearMonth.lengthOfMonth());
+    }
+
+    // 수정 이력 -> 근무일 -> 근무표 순서로 일괄 삭제 (근무표 수와 상관없이 DELETE 3회, 근무 시간 프로필은 공유되므로 유지)
+    private void deleteCalendars(List<Long> calendarIds) {
+        workCalendarHistory.deleteAll(calendarIds);
+        workInstanceRepository.deleteAllByWorkCalendarIds(calendarIds);
+        workCalendarRepository.deleteAllByIdIn(calendarIds);
     }
 
 }
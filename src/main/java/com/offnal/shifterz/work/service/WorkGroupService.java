@@ -0,0 +1,115 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.common.AuthService;
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.domain.WorkGroup;
+import com.offnal.shifterz.work.domain.WorkGroupMember;
+import com.offnal.shifterz.work.dto.WorkGroupJoinRequestDto;
+import com.offnal.shifterz.work.dto.WorkGroupRequestDto;
+import com.offnal.shifterz.work.dto.WorkGroupResDto;
+import com.offnal.shifterz.work.repository.WorkGroupMemberRepository;
+import com.offnal.shifterz.work.repository.WorkGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 근무조 생성·가입·탈퇴.
+ * 근무 현황(roster)은 초대 코드로 가입한 구성원끼리만 볼 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkGroupService {
+
+    // 헷갈리는 문자(0/O, 1/I/L)를 뺀 초대 코드 문자
+    private static final String INVITE_CODE_CHARS = "ABCDEFGHJKMNPQRSTUVWXYZ23456789";
+    private static final int INVITE_CODE_LENGTH = 8;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final WorkGroupRepository workGroupRepository;
+    private final WorkGroupMemberRepository workGroupMemberRepository;
+
+    // 근무조 생성 (만든 회원은 바로 구성원이 됨)
+    @Transactional
+    public WorkGroupResDto createGroup(WorkGroupRequestDto requestDto) {
+        Long memberId = AuthService.getCurrentUserId();
+
+        WorkGroup group = workGroupRepository.save(WorkGroup.builder()
+                .name(requestDto.getName().trim())
+                .inviteCode(newInviteCode())
+                .ownerId(memberId)
+                .createdAt(LocalDateTime.now())
+                .build());
+        workGroupMemberRepository.save(WorkGroupMember.builder()
+                .workGroupId(group.getId())
+                .memberId(memberId)
+                .joinedAt(LocalDateTime.now())
+                .build());
+
+        return toResDto(group);
+    }
+
+    // 초대 코드로 가입 (이미 구성원이면 그대로 반환)
+    public WorkGroupResDto joinGroup(WorkGroupJoinRequestDto requestDto) {
+        Long memberId = AuthService.getCurrentUserId();
+        WorkGroup group = workGroupRepository.findByInviteCode(requestDto.getInviteCode().trim().toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> new CustomException(ErrorCode.WORK_GROUP_NOT_FOUND));
+
+        if (!workGroupMemberRepository.existsByWorkGroupIdAndMemberId(group.getId(), memberId)) {
+            try {
+                workGroupMemberRepository.save(WorkGroupMember.builder()
+                        .workGroupId(group.getId())
+                        .memberId(memberId)
+                        .joinedAt(LocalDateTime.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 회원의 동시 가입 요청이 먼저 저장된 경우
+            }
+        }
+        return toResDto(group);
+    }
+
+    // 가입한 근무조 목록
+    @Transactional(readOnly = true)
+    public List<WorkGroupResDto> getMyGroups() {
+        return workGroupRepository.findAllByMemberId(AuthService.getCurrentUserId()).stream()
+                .map(this::toResDto)
+                .toList();
+    }
+
+    // 근무조 탈퇴
+    @Transactional
+    public void leaveGroup(Long workGroupId) {
+        int deleted = workGroupMemberRepository.deleteByWorkGroupIdAndMemberId(workGroupId, AuthService.getCurrentUserId());
+        if (deleted == 0) {
+            throw new CustomException(ErrorCode.WORK_GROUP_NOT_FOUND);
+        }
+    }
+
+    private String newInviteCode() {
+        String code;
+        do {
+            StringBuilder builder = new StringBuilder(INVITE_CODE_LENGTH);
+            for (int i = 0; i < INVITE_CODE_LENGTH; i++) {
+                builder.append(INVITE_CODE_CHARS.charAt(RANDOM.nextInt(INVITE_CODE_CHARS.length())));
+            }
+            code = builder.toString();
+        } while (workGroupRepository.existsByInviteCode(code));
+        return code;
+    }
+
+    private WorkGroupResDto toResDto(WorkGroup group) {
+        return WorkGroupResDto.builder()
+                .workGroupId(group.getId())
+                .name(group.getName())
+                .inviteCode(group.getInviteCode())
+                .build();
+    }
+}
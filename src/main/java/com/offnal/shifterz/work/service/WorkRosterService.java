@@ -0,0 +1,156 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.common.AuthService;
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.domain.ShiftCode;
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkRosterResDto;
+import com.offnal.shifterz.work.repository.WorkGroupMemberRepository;
+import com.offnal.shifterz.work.repository.WorkRosterRow;
+import com.offnal.shifterz.work.repository.WorkRotationDayRow;
+import com.offnal.shifterz.work.repository.WorkRotationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 근무조 근무 현황.
+ * 구성원 전체와 기간의 월별 근무표·근무일을 한 쿼리로 읽고(구성원 확인 포함), 월별 근무표로 모두 채워지지 않은
+ * 구성원이 있을 때만 순환 근무와 예외 근무일을 한 쿼리로 더 읽는다 (최대 2번).
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkRosterService {
+
+    // 근무 현황 조회 최대 일수
+    private static final int MAX_RANGE_DAYS = 7;
+
+    private final WorkGroupMemberRepository workGroupMemberRepository;
+    private final WorkRotationRepository workRotationRepository;
+
+    // 근무조 구성원 전체의 기간 내 근무 (초대 코드로 가입한 구성원만 조회 가능, 근무 정보가 없는 구성원은 빈 목록)
+    @Transactional(readOnly = true)
+    public WorkRosterResDto getRoster(Long workGroupId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        Long memberId = AuthService.getCurrentUserId();
+        List<WorkRosterRow> rows = workGroupMemberRepository.findRosterRows(
+                workGroupId, memberId, from.withDayOfMonth(1), to.withDayOfMonth(1), from, to);
+        // 요청한 회원이 구성원이면 적어도 본인 행이 있음
+        if (rows.isEmpty()) {
+            throw new CustomException(ErrorCode.WORK_GROUP_FORBIDDEN);
+        }
+
+        Map<Long, WorkRosterResDto.MemberShifts> members = new LinkedHashMap<>();
+        Map<Long, Set<YearMonth>> calendarMonthsByMember = new HashMap<>();
+        for (WorkRosterRow row : rows) {
+            WorkRosterResDto.MemberShifts member = members.computeIfAbsent(row.memberId(), id ->
+                    WorkRosterResDto.MemberShifts.builder()
+                            .memberId(id)
+                            .nickname(row.nickname())
+                            .profileImageUrl(row.profileImageUrl())
+                            .days(new ArrayList<>())
+                            .build());
+            if (row.startDate() != null) {
+                calendarMonthsByMember.computeIfAbsent(row.memberId(), id -> new HashSet<>()).add(YearMonth.from(row.startDate()));
+                addDays(member.getDays(), row, from, to);
+            }
+        }
+
+        addRotationDays(from, to, calendarMonthsByMember, members);
+
+        members.values().forEach(member -> member.getDays().sort(Comparator.comparing(WorkRosterResDto.RosterDay::getDate)));
+        return WorkRosterResDto.builder()
+                .workGroupId(workGroupId)
+                .workGroup(rows.get(0).workGroupName())
+                .members(members.values().stream()
+                        .sorted(Comparator.comparing(WorkRosterResDto.MemberShifts::getNickname,
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                        .toList())
+                .build();
+    }
+
+    // 월별 근무표로 기간이 모두 채워지지 않은 구성원만 순환 근무 + 예외 근무일로 채움 (월별 근무표가 있는 달은 제외)
+    private void addRotationDays(LocalDate from, LocalDate to,
+                                 Map<Long, Set<YearMonth>> calendarMonthsByMember,
+                                 Map<Long, WorkRosterResDto.MemberShifts> members) {
+        Set<YearMonth> months = new HashSet<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        List<Long> uncoveredMemberIds = members.keySet().stream()
+                .filter(memberId -> !calendarMonthsByMember.getOrDefault(memberId, Set.of()).containsAll(months))
+                .toList();
+        if (uncoveredMemberIds.isEmpty()) {
+            return;
+        }
+
+        Map<WorkRotation, Map<LocalDate, WorkTimeType>> overridesByRotation = new LinkedHashMap<>();
+        for (WorkRotationDayRow row : workRotationRepository.findDayRowsByMemberIdsOverlapping(uncoveredMemberIds, from, to)) {
+            Map<LocalDate, WorkTimeType> overrides = overridesByRotation.computeIfAbsent(row.rotation(), rotation -> new HashMap<>());
+            if (row.overrideDate() != null) {
+                overrides.put(row.overrideDate(), row.overrideType());
+            }
+        }
+
+        for (Map.Entry<WorkRotation, Map<LocalDate, WorkTimeType>> entry : overridesByRotation.entrySet()) {
+            WorkRotation rotation = entry.getKey();
+            Map<LocalDate, WorkTimeType> overrides = entry.getValue();
+            Set<YearMonth> calendarMonths = calendarMonthsByMember.getOrDefault(rotation.getMemberId(), Set.of());
+            List<WorkRosterResDto.RosterDay> days = members.get(rotation.getMemberId()).getDays();
+
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (calendarMonths.contains(YearMonth.from(date))) {
+                    continue;
+                }
+                WorkTimeType type = overrides.containsKey(date) ? overrides.get(date) : rotation.typeAt(date);
+                if (type != null) {
+                    days.add(toRosterDay(date, type));
+                }
+            }
+        }
+    }
+
+    private void addDays(List<WorkRosterResDto.RosterDay> days, WorkRosterRow row, LocalDate from, LocalDate to) {
+        if (row.storage() == WorkCalendarStorage.PACKED) {
+            for (LocalDate date = max(from, row.startDate());
+                 !date.isAfter(to) && date.getMonth() == row.startDate().getMonth();
+                 date = date.plusDays(1)) {
+                WorkTimeType type = ShiftCode.typeAt(row.shiftCode(), date.getDayOfMonth());
+                if (type != null) {
+                    days.add(toRosterDay(date, type));
+                }
+            }
+        } else if (row.workDate() != null) {
+            days.add(toRosterDay(row.workDate(), row.workTimeType()));
+        }
+    }
+
+    private WorkRosterResDto.RosterDay toRosterDay(LocalDate date, WorkTimeType type) {
+        return WorkRosterResDto.RosterDay.builder()
+                .date(date)
+                .workType(type)
+                .build();
+    }
+
+    private LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,135 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.common.AuthService;
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.converter.WorkCalendarConverter;
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkRotationOverride;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkRotationOverrideDto;
+import com.offnal.shifterz.work.dto.WorkRotationRequestDto;
+import com.offnal.shifterz.work.dto.WorkRotationResDto;
+import com.offnal.shifterz.work.event.WorkCalendarChangedEvent;
+import com.offnal.shifterz.work.repository.WorkRotationOverrideRepository;
+import com.offnal.shifterz.work.repository.WorkRotationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class WorkRotationService {
+
+    private final WorkRotationRepository workRotationRepository;
+    private final WorkRotationOverrideRepository workRotationOverrideRepository;
+    private final WorkTimeProfileCache workTimeProfileCache;
+    private final WorkCalendarChangeLog workCalendarChangeLog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 순환 근무 등록 (기간과 상관없이 순환 근무 1행 + 근무 시간만 저장)
+    public void createRotation(WorkRotationRequestDto requestDto) {
+        Long memberId = AuthService.getCurrentUserId();
+
+        if (workRotationRepository.existsByMemberId(memberId)) {
+            throw new CustomException(ErrorCode.ROTATION_DUPLICATION);
+        }
+
+        Long workTimeProfileId = workTimeProfileCache.resolveId(WorkCalendarConverter.toWorkTimeMap(requestDto.getWorkTimes()));
+        try {
+            // 동시 등록은 member_id 유니크 제약으로 막음
+            workRotationRepository.saveAndFlush(WorkCalendarConverter.toRotation(memberId, requestDto, workTimeProfileId));
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.ROTATION_DUPLICATION);
+        }
+
+        // 끝이 없는 기간이 바뀌므로 날짜별 기록 대신 전체 다시 받기로 기록
+        workCalendarChangeLog.appendFullResync(memberId);
+        eventPublisher.publishEvent(new WorkCalendarChangedEvent(memberId));
+    }
+
+    @Transactional(readOnly = true)
+    public WorkRotationResDto getRotation() {
+        Long memberId = AuthService.getCurrentUserId();
+
+        WorkRotation rotation = findRotation(memberId);
+        return WorkCalendarConverter.toRotationResDto(rotation, workTimeProfileCache.get(rotation.getWorkTimeProfileId()));
+    }
+
+    // 예외 근무일 수정 (패턴과 다른 날만 저장하고, 패턴과 같아진 날은 예외 삭제)
+    public void updateOverrides(WorkRotationOverrideDto overrideDto) {
+        Long memberId = AuthService.getCurrentUserId();
+        WorkRotation rotation = findRotation(memberId);
+
+        Map<LocalDate, WorkRotationOverride> existingMap = workRotationOverrideRepository
+                .findByRotationAndWorkDateIn(rotation, overrideDto.getShifts().keySet()).stream()
+                .collect(Collectors.toMap(WorkRotationOverride::getWorkDate, Function.identity()));
+
+        List<WorkRotationOverride> newOverrides = new ArrayList<>();
+        List<WorkRotationOverride> removedOverrides = new ArrayList<>();
+        List<LocalDate> changedDates = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, String> entry : overrideDto.getShifts().entrySet()) {
+            LocalDate date = entry.getKey();
+            if (!rotation.covers(date)) {
+                throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+            }
+            WorkTimeType workTimeType = WorkCalendarConverter.toWorkTimeType(entry.getValue());
+            WorkRotationOverride existing = existingMap.get(date);
+
+            if (workTimeType == rotation.typeAt(date)) {
+                if (existing != null) {
+                    removedOverrides.add(existing);
+                    changedDates.add(date);
+                }
+            } else if (existing == null) {
+                newOverrides.add(WorkRotationOverride.builder()
+                        .rotation(rotation)
+                        .workDate(date)
+                        .workTimeType(workTimeType)
+                        .build());
+                changedDates.add(date);
+            } else if (existing.getWorkTimeType() != workTimeType) {
+                existing.changeWorkTimeType(workTimeType);
+                changedDates.add(date);
+            }
+        }
+
+        workRotationOverrideRepository.deleteAllInBatch(removedOverrides);
+        workRotationOverrideRepository.saveAll(newOverrides);
+
+        if (!changedDates.isEmpty()) {
+            // 월별 근무표가 있는 달은 근무표가 우선하므로 반영 결과로 기록
+            workCalendarChangeLog.appendResolved(memberId, changedDates);
+            eventPublisher.publishEvent(new WorkCalendarChangedEvent(memberId));
+        }
+    }
+
+    // 예외 근무일 -> 순환 근무 순서로 삭제 (근무 시간 프로필은 공유되므로 유지)
+    public void deleteRotation() {
+        Long memberId = AuthService.getCurrentUserId();
+        WorkRotation rotation = findRotation(memberId);
+
+        Long rotationId = rotation.getId();
+        workRotationOverrideRepository.deleteAllByRotationId(rotationId);
+        workRotationRepository.deleteAllByIdInBatch(List.of(rotationId));
+
+        workCalendarChangeLog.appendFullResync(memberId);
+        eventPublisher.publishEvent(new WorkCalendarChangedEvent(memberId));
+    }
+
+    private WorkRotation findRotation(Long memberId) {
+        return workRotationRepository.findByMemberId(memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ROTATION_NOT_FOUND));
+    }
+}
@@ -0,0 +1,150 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.ScheduledDay;
+import com.offnal.shifterz.work.domain.ShiftCode;
+import com.offnal.shifterz.work.domain.WorkCalendarStorage;
+import com.offnal.shifterz.work.domain.WorkRotation;
+import com.offnal.shifterz.work.domain.WorkTime;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.repository.WorkCalendarDayRow;
+import com.offnal.shifterz.work.repository.WorkCalendarRepository;
+import com.offnal.shifterz.work.repository.WorkCalendarView;
+import com.offnal.shifterz.work.repository.WorkRotationDayRow;
+import com.offnal.shifterz.work.repository.WorkRotationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 근무표 저장 방식(ROWS / PACKED)과 순환 근무에 상관없이 기간 내 근무일을 날짜 단위로 읽는다.
+ * 근무표와 ROWS 근무일은 한 쿼리(left join)로 읽고, 월별 근무표로 모두 채워지지 않은 회원이 있을 때만
+ * 순환 근무와 예외 근무일을 한 쿼리로 더 읽는다 (기간이 월별 근무표로 채워지면 쿼리 1번).
+ * 조회 전용 프로젝션을 읽기 전용 트랜잭션에서 읽으므로 근무표·근무일 엔티티 생성, 변경 감지, flush 가 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkScheduleReader {
+
+    private final WorkCalendarRepository workCalendarRepository;
+    private final WorkRotationRepository workRotationRepository;
+    private final WorkTimeProfileCache workTimeProfileCache;
+
+    // 회원의 from ~ to 기간 근무일 (날짜순)
+    @Transactional(readOnly = true)
+    public List<ScheduledDay> readDays(Long memberId, LocalDate from, LocalDate to) {
+        return readDays(List.of(memberId), from, to).getOrDefault(memberId, List.of());
+    }
+
+    // 여러 회원의 from ~ to 기간 근무일 (회원 ID -> 날짜순 근무일)
+    @Transactional(readOnly = true)
+    public Map<Long, List<ScheduledDay>> readDays(Collection<Long> memberIds, LocalDate from, LocalDate to) {
+        // 근무표별 기간 내 근무일 행 (PACKED 또는 근무일이 없는 근무표는 workDate 가 null 인 한 행)
+        Map<Long, WorkCalendarView> calendars = new LinkedHashMap<>();
+        Map<Long, List<WorkCalendarDayRow>> rowsByCalendar = new HashMap<>();
+        for (WorkCalendarDayRow row : workCalendarRepository.findDayRowsByMemberIdsAndStartDateBetween(
+                memberIds, from.withDayOfMonth(1), to.withDayOfMonth(1), from, to)) {
+            calendars.computeIfAbsent(row.id(), id -> row.toView());
+            if (row.workDate() != null) {
+                rowsByCalendar.computeIfAbsent(row.id(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        // 근무 시간은 조인 없이 프로필 캐시에서 조회
+        Map<Long, Map<String, WorkTime>> workTimesByProfile = workTimeProfileCache.getAll(
+                calendars.values().stream().map(WorkCalendarView::workTimeProfileId).toList());
+
+        Map<Long, List<ScheduledDay>> daysByMember = new HashMap<>();
+        Map<Long, Set<YearMonth>> calendarMonthsByMember = new HashMap<>();
+        for (WorkCalendarView calendar : calendars.values()) {
+            List<ScheduledDay> days = daysByMember.computeIfAbsent(calendar.memberId(), memberId -> new ArrayList<>());
+            calendarMonthsByMember.computeIfAbsent(calendar.memberId(), memberId -> new HashSet<>())
+                    .add(calendar.toYearMonth());
+
+            expand(calendar, workTimesByProfile.getOrDefault(calendar.workTimeProfileId(), Map.of()),
+                    rowsByCalendar.getOrDefault(calendar.id(), List.of()), from, to, days);
+        }
+
+        addRotationDays(memberIds, from, to, calendarMonthsByMember, daysByMember);
+
+        daysByMember.values().forEach(days -> days.sort(Comparator.comparing(ScheduledDay::date)));
+        return daysByMember;
+    }
+
+    // 월별 근무표가 없는 날짜를 순환 근무로 채움 (패턴 % 주기, 예외 근무일 우선)
+    private void addRotationDays(Collection<Long> memberIds, LocalDate from, LocalDate to,
+                                 Map<Long, Set<YearMonth>> calendarMonthsByMember,
+                                 Map<Long, List<ScheduledDay>> daysByMember) {
+        // 기간의 모든 달에 월별 근무표가 있는 회원은 순환 근무를 읽지 않음
+        Set<YearMonth> months = new HashSet<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        List<Long> uncoveredMemberIds = memberIds.stream()
+                .filter(memberId -> !calendarMonthsByMember.getOrDefault(memberId, Set.of()).containsAll(months))
+                .toList();
+        if (uncoveredMemberIds.isEmpty()) {
+            return;
+        }
+
+        Map<WorkRotation, Map<LocalDate, WorkTimeType>> overridesByRotation = new LinkedHashMap<>();
+        for (WorkRotationDayRow row : workRotationRepository.findDayRowsByMemberIdsOverlapping(uncoveredMemberIds, from, to)) {
+            Map<LocalDate, WorkTimeType> overrides = overridesByRotation.computeIfAbsent(row.rotation(), rotation -> new HashMap<>());
+            if (row.overrideDate() != null) {
+                overrides.put(row.overrideDate(), row.overrideType());
+            }
+        }
+
+        for (Map.Entry<WorkRotation, Map<LocalDate, WorkTimeType>> entry : overridesByRotation.entrySet()) {
+            WorkRotation rotation = entry.getKey();
+            Map<LocalDate, WorkTimeType> overrides = entry.getValue();
+            Map<String, WorkTime> workTimes = workTimeProfileCache.get(rotation.getWorkTimeProfileId());
+            Set<YearMonth> calendarMonths = calendarMonthsByMember.getOrDefault(rotation.getMemberId(), Set.of());
+            List<ScheduledDay> days = daysByMember.computeIfAbsent(rotation.getMemberId(), memberId -> new ArrayList<>());
+
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (calendarMonths.contains(YearMonth.from(date))) {
+                    continue;
+                }
+                WorkTimeType type = overrides.containsKey(date) ? overrides.get(date) : rotation.typeAt(date);
+                if (type != null) {
+                    days.add(new ScheduledDay(date, type, rotation, workTimes));
+                }
+            }
+        }
+    }
+
+    // 근무표의 근무일 중 기간 내 날짜만 추가 (PACKED 는 shiftCode, ROWS 는 근무일 행 기준)
+    private void expand(WorkCalendarView calendar, Map<String, WorkTime> workTimes, List<WorkCalendarDayRow> rows,
+                        LocalDate from, LocalDate to, List<ScheduledDay> days) {
+        if (calendar.storage() == WorkCalendarStorage.PACKED) {
+            YearMonth yearMonth = calendar.toYearMonth();
+            for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+                WorkTimeType type = ShiftCode.typeAt(calendar.shiftCode(), day);
+                LocalDate date = yearMonth.atDay(day);
+                if (type != null && isWithin(date, from, to)) {
+                    days.add(new ScheduledDay(date, type, calendar, workTimes));
+                }
+            }
+            return;
+        }
+
+        for (WorkCalendarDayRow row : rows) {
+            days.add(new ScheduledDay(row.workDate(), row.workTimeType(), calendar, workTimes));
+        }
+    }
+
+    private static boolean isWithin(LocalDate date, LocalDate from, LocalDate to) {
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+}
@@ -0,0 +1,110 @@
+package com.offnal.shifterz.work.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.offnal.shifterz.work.domain.WorkTime;
+import com.offnal.shifterz.work.domain.WorkTimeProfile;
+import com.offnal.shifterz.work.repository.WorkTimeProfileBatchRepository;
+import com.offnal.shifterz.work.repository.WorkTimeProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 근무 시간 프로필 캐시.
+ * 프로필은 저장 후 바뀌지 않으므로 ID별 근무 시간을 만료 없이 보관하고(크기 제한만), 저장 시 같은 근무 시간이면 기존 프로필을 재사용한다.
+ * 새 프로필은 요청 트랜잭션 안에서 저장하고(커넥션 하나), 커밋된 뒤에만 fingerprint -> ID 캐시에 넣는다.
+ */
+@Component
+public class WorkTimeProfileCache {
+
+    private final WorkTimeProfileBatchRepository workTimeProfileBatchRepository;
+    private final LoadingCache<Long, Map<String, WorkTime>> workTimesById;
+    private final Cache<String, Long> idByFingerprint;
+
+    public WorkTimeProfileCache(
+            WorkTimeProfileRepository workTimeProfileRepository,
+            WorkTimeProfileBatchRepository workTimeProfileBatchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${work.profile.cache-size:10000}") long cacheSize
+    ) {
+        this.workTimeProfileBatchRepository = workTimeProfileBatchRepository;
+
+        this.workTimesById = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Map<String, WorkTime> load(Long id) {
+                        return loadAll(Set.of(id)).get(id);
+                    }
+
+                    @Override
+                    public Map<Long, Map<String, WorkTime>> loadAll(Set<? extends Long> ids) {
+                        return workTimeProfileRepository.findAllWithWorkTimesByIdIn(Set.copyOf(ids)).stream()
+                                .collect(Collectors.toMap(WorkTimeProfile::getId, profile -> copyOf(profile.getWorkTimes())));
+                    }
+                });
+        this.idByFingerprint = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, workTimesById, "workTimeProfile");
+    }
+
+    // 프로필의 근무 시간 (프로필이 없으면 빈 맵)
+    public Map<String, WorkTime> get(Long profileId) {
+        if (profileId == null) {
+            return Map.of();
+        }
+        Map<String, WorkTime> workTimes = workTimesById.get(profileId);
+        return workTimes != null ? workTimes : Map.of();
+    }
+
+    // 여러 프로필의 근무 시간 (캐시에 없는 프로필만 한 번에 조회)
+    public Map<Long, Map<String, WorkTime>> getAll(Collection<Long> profileIds) {
+        return workTimesById.getAll(profileIds.stream().filter(id -> id != null).collect(Collectors.toSet()));
+    }
+
+    // 같은 근무 시간의 프로필 ID (없으면 현재 트랜잭션에서 새로 저장)
+    public Long resolveId(Map<String, WorkTime> workTimes) {
+        String fingerprint = WorkTimeProfile.fingerprintOf(workTimes);
+        Long cached = idByFingerprint.getIfPresent(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long id = workTimeProfileBatchRepository.insertIfAbsent(fingerprint, workTimes);
+        // 요청 트랜잭션이 롤백되면 새로 저장한 프로필도 없어지므로 커밋 후에만 캐시
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    idByFingerprint.put(fingerprint, id);
+                }
+            });
+        } else {
+            idByFingerprint.put(fingerprint, id);
+        }
+        return id;
+    }
+
+    // 캐시에 보관되므로 엔티티 값 복사
+    private Map<String, WorkTime> copyOf(Map<String, WorkTime> workTimes) {
+        Map<String, WorkTime> copy = new HashMap<>();
+        workTimes.forEach((key, workTime) ->
+                copy.put(key, WorkTime.of(workTime.getTimeType(), workTime.getStartTime(), workTime.getEndTime())));
+        return Map.copyOf(copy);
+    }
+}
@@ -0,0 +1,101 @@
+package com.offnal.shifterz.global.datasource;
+
+import com.offnal.shifterz.jwt.CustomUserDetails;
+import com.offnal.shifterz.work.event.WorkCalendarChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long MEMBER_ID = 7L;
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    // Caffeine ticker (나노초)
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesTracker tracker;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ReadYourWritesTracker(WINDOW, nanos::get);
+        dataSource = new ReadWriteRoutingDataSource(tracker, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_routesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        authenticate(MEMBER_ID);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.REPLICA);
+        assertThat(count("replica")).isEqualTo(1.0);
+    }
+
+    @Test
+    void writeTransaction_routesToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        authenticate(MEMBER_ID);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+        assertThat(count("primary")).isEqualTo(1.0);
+    }
+
+    @Test
+    void readOnlyTransaction_routesToPrimaryWithinReadYourWritesWindow() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        authenticate(MEMBER_ID);
+        tracker.onWorkCalendarChanged(new WorkCalendarChangedEvent(MEMBER_ID));
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+
+        // 유예 시간이 지나면 다시 replica
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    @Test
+    void readYourWritesWindow_onlyAppliesToTheWriter() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.markWritten(MEMBER_ID);
+        authenticate(MEMBER_ID + 1);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    @Test
+    void readOnlyTransactionWithoutAuthentication_routesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.markWritten(MEMBER_ID);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    private void authenticate(Long memberId) {
+        CustomUserDetails userDetails = new CustomUserDetails(memberId, () -> null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private double count(String target) {
+        return meterRegistry.counter("datasource.routing", "target", target).count();
+    }
+}
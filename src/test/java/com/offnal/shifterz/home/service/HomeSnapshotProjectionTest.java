@@ -0,0 +1,36 @@
+package com.offnal.shifterz.home.service;
+
+import com.offnal.shifterz.work.event.WorkCalendarOutboxEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HomeSnapshotProjectionTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 10);
+
+    @Test
+    void affectsCachedDays_forFullResync() {
+        assertThat(HomeSnapshotProjection.affectsCachedDays(event(null, null), TODAY)).isTrue();
+    }
+
+    @Test
+    void affectsCachedDays_whenRangeTouchesYesterdayToDayAfterTomorrow() {
+        assertThat(HomeSnapshotProjection.affectsCachedDays(event(TODAY.minusDays(5), TODAY.minusDays(1)), TODAY)).isTrue();
+        assertThat(HomeSnapshotProjection.affectsCachedDays(event(TODAY.plusDays(2), TODAY.plusDays(9)), TODAY)).isTrue();
+        assertThat(HomeSnapshotProjection.affectsCachedDays(event(TODAY.minusMonths(1), TODAY.plusMonths(1)), TODAY)).isTrue();
+    }
+
+    @Test
+    void affectsCachedDays_ignoresRangesOutsideCachedDays() {
+        assertThat(HomeSnapshotProjection.affectsCachedDays(event(TODAY.minusDays(9), TODAY.minusDays(2)), TODAY)).isFalse();
+        assertThat(HomeSnapshotProjection.affectsCachedDays(event(TODAY.plusDays(3), TODAY.plusDays(30)), TODAY)).isFalse();
+    }
+
+    private WorkCalendarOutboxEvent event(LocalDate from, LocalDate to) {
+        return new WorkCalendarOutboxEvent(1L, 1L, 1L, from, to, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,70 @@
+package com.offnal.shifterz.jwt;
+
+import com.offnal.shifterz.global.common.AuthService;
+import com.offnal.shifterz.member.domain.Member;
+import com.offnal.shifterz.member.service.MemberCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes";
+    private static final long MEMBER_ID = 42L;
+
+    @Mock
+    private MemberCache memberCache;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(memberCache, new SimpleMeterRegistry(), SECRET, 100);
+        jwtTokenProvider.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getAuthentication_buildsPrincipalFromTokenWithoutLoadingMember() {
+        Long memberId = jwtTokenProvider.verify(jwtTokenProvider.createToken(MEMBER_ID));
+        Authentication authentication = jwtTokenProvider.getAuthentication(memberId);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(MEMBER_ID);
+        assertThat(principal.getUsername()).isEqualTo("42");
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        // ID 만 필요한 요청은 회원을 조회하지 않음
+        assertThat(AuthService.getCurrentUserId()).isEqualTo(MEMBER_ID);
+        verifyNoInteractions(memberCache);
+    }
+
+    @Test
+    void getMember_loadsMemberOncePerRequest() {
+        Member member = new Member(MEMBER_ID, 1000L, "닉네임", null, null);
+        when(memberCache.getById(MEMBER_ID)).thenReturn(member);
+        SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(MEMBER_ID));
+
+        assertThat(AuthService.getCurrentMember()).isSameAs(member);
+        assertThat(AuthService.getCurrentMember()).isSameAs(member);
+
+        verify(memberCache, times(1)).getById(MEMBER_ID);
+    }
+}
@@ -0,0 +1,93 @@
+package com.offnal.shifterz.jwt;
+
+import com.offnal.shifterz.member.service.MemberCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes";
+    private static final long MEMBER_ID = 42L;
+
+    @Mock
+    private MemberCache memberCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(memberCache, meterRegistry, SECRET, 100);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void verify_parsesTokenOnceAndServesRepeatsFromCache() {
+        String token = jwtTokenProvider.createToken(MEMBER_ID);
+
+        assertThat(jwtTokenProvider.verify(token)).isEqualTo(MEMBER_ID);
+        assertThat(jwtTokenProvider.verify(token)).isEqualTo(MEMBER_ID);
+        assertThat(jwtTokenProvider.verify(token)).isEqualTo(MEMBER_ID);
+
+        assertThat(parseCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void verify_rejectsTokenSignedWithAnotherKey() {
+        String token = signed("another-secret-key-that-is-at-least-32-bytes", String.valueOf(MEMBER_ID), 60_000L);
+
+        assertThat(jwtTokenProvider.verify(token)).isNull();
+    }
+
+    @Test
+    void verify_rejectsExpiredToken() {
+        String token = signed(SECRET, String.valueOf(MEMBER_ID), -1_000L);
+
+        assertThat(jwtTokenProvider.verify(token)).isNull();
+    }
+
+    @Test
+    void verify_rejectsTokenWhoseSubjectIsNotMemberId() {
+        String refreshToken = jwtTokenProvider.createRefreshToken("user@example.com");
+
+        assertThat(jwtTokenProvider.verify(refreshToken)).isNull();
+    }
+
+    @Test
+    void verify_doesNotCacheRejectedTokens() {
+        String token = jwtTokenProvider.createToken(MEMBER_ID);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtTokenProvider.verify(tampered)).isNull();
+        assertThat(jwtTokenProvider.verify(tampered)).isNull();
+
+        assertThat(parseCount()).isEqualTo(2L);
+    }
+
+    private long parseCount() {
+        return meterRegistry.timer("jwt.verify").count();
+    }
+
+    private String signed(String secret, String subject, long expiresInMillis) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(subject)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expiresInMillis))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,128 @@
+package com.offnal.shifterz.member.service;
+
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.member.domain.Member;
+import com.offnal.shifterz.member.event.MemberChangedEvent;
+import com.offnal.shifterz.member.repository.MemberCacheVersionRepository;
+import com.offnal.shifterz.member.repository.MemberCacheVersionRepository.MemberCacheChange;
+import com.offnal.shifterz.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCacheTest {
+
+    private static final long MEMBER_ID = 1L;
+    private static final long KAKAO_ID = 1000L;
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private MemberCacheVersionRepository versionRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberCache memberCache;
+
+    @BeforeEach
+    void setUp() {
+        memberCache = new MemberCache(memberRepository, versionRepository, new SimpleMeterRegistry(),
+                transactionManager, 100, 600);
+        lenient().when(memberRepository.findById(MEMBER_ID))
+                .thenReturn(Optional.of(new Member(MEMBER_ID, KAKAO_ID, "닉네임", "a@example.com", null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getById_loadsOnceAndReturnsCopies() {
+        Member first = memberCache.getById(MEMBER_ID);
+        first.setEmail("changed@example.com");
+        Member second = memberCache.getById(MEMBER_ID);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEmail()).isEqualTo("a@example.com");
+        assertThat(memberCache.findCachedByKakaoId(KAKAO_ID)).isPresent();
+        verify(memberRepository, times(1)).findById(MEMBER_ID);
+    }
+
+    @Test
+    void getById_missingMember_throws() {
+        when(memberRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> memberCache.getById(2L)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void getById_inReadOnlyTransaction_doesNotCacheReplicaRead() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        memberCache.getById(MEMBER_ID);
+        memberCache.getById(MEMBER_ID);
+
+        verify(memberRepository, times(2)).findById(MEMBER_ID);
+        assertThat(memberCache.findCachedByKakaoId(KAKAO_ID)).isEmpty();
+    }
+
+    @Test
+    void onMemberChanged_evictsLocally() {
+        memberCache.getById(MEMBER_ID);
+
+        memberCache.onMemberChanged(new MemberChangedEvent(MEMBER_ID, KAKAO_ID));
+
+        assertThat(memberCache.findCachedByKakaoId(KAKAO_ID)).isEmpty();
+        memberCache.getById(MEMBER_ID);
+        verify(memberRepository, times(2)).findById(MEMBER_ID);
+    }
+
+    @Test
+    void pollInvalidations_evictsMembersChangedOnOtherNodesAfterLastSeenVersion() {
+        when(versionRepository.currentVersion()).thenReturn(10L);
+        memberCache.pollInvalidations();
+        memberCache.getById(MEMBER_ID);
+
+        // 다른 노드에서 버전 11 로 변경
+        when(versionRepository.findChangedAfter(eq(10L), anyInt()))
+                .thenReturn(List.of(new MemberCacheChange(MEMBER_ID, 11L)));
+        memberCache.pollInvalidations();
+
+        assertThat(memberCache.findCachedByKakaoId(KAKAO_ID)).isEmpty();
+        memberCache.getById(MEMBER_ID);
+        verify(memberRepository, times(2)).findById(MEMBER_ID);
+
+        // 다음 확인은 마지막으로 본 버전 이후부터
+        memberCache.pollInvalidations();
+        verify(versionRepository).findChangedAfter(eq(11L), anyInt());
+    }
+
+    @Test
+    void pollInvalidations_firstPollClearsEntriesCachedBeforeIt() {
+        memberCache.getById(MEMBER_ID);
+        when(versionRepository.currentVersion()).thenReturn(0L);
+
+        memberCache.pollInvalidations();
+
+        assertThat(memberCache.findCachedByKakaoId(KAKAO_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.offnal.shifterz.work.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShiftCodeTest {
+
+    @Test
+    void encode_fillsMissingDaysWithEmpty() {
+        String code = ShiftCode.encode(Map.of(1, WorkTimeType.DAY, 3, WorkTimeType.NIGHT, 30, WorkTimeType.OFF), 30);
+
+        assertThat(code).hasSize(30);
+        assertThat(code).startsWith("D.N.");
+        assertThat(code).endsWith(".-");
+    }
+
+    @Test
+    void encode_rejectsDayOutsideMonth() {
+        assertThatThrownBy(() -> ShiftCode.encode(Map.of(29, WorkTimeType.DAY), 28))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ShiftCode.encode(Map.of(0, WorkTimeType.DAY), 28))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void typeAt_returnsNullForEmptyOrOutOfRange() {
+        String code = ShiftCode.encode(Map.of(2, WorkTimeType.EVENING), 31);
+
+        assertThat(ShiftCode.typeAt(code, 2)).isEqualTo(WorkTimeType.EVENING);
+        assertThat(ShiftCode.typeAt(code, 1)).isNull();
+        assertThat(ShiftCode.typeAt(code, 0)).isNull();
+        assertThat(ShiftCode.typeAt(code, 32)).isNull();
+        assertThat(ShiftCode.typeAt(null, 1)).isNull();
+    }
+
+    @Test
+    void with_changesOnlyThatDay() {
+        String code = ShiftCode.encode(Map.of(1, WorkTimeType.DAY, 2, WorkTimeType.DAY), 28);
+
+        String changed = ShiftCode.with(code, 2, WorkTimeType.NIGHT);
+        String cleared = ShiftCode.with(changed, 1, null);
+
+        assertThat(changed).startsWith("DN.");
+        assertThat(cleared).startsWith(".N.");
+        assertThat(code).startsWith("DD.");
+        assertThatThrownBy(() -> ShiftCode.with(code, 29, WorkTimeType.DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.offnal.shifterz.work.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShiftDeltaTest {
+
+    @Test
+    void encode_padsDayToTwoDigits() {
+        Map<Integer, WorkTimeType> changes = new TreeMap<>();
+        changes.put(3, WorkTimeType.NIGHT);
+        changes.put(15, WorkTimeType.OFF);
+        changes.put(31, null);
+
+        assertThat(ShiftDelta.encode(changes)).isEqualTo("03N15-31.");
+    }
+
+    @Test
+    void encode_rejectsInvalidDay() {
+        assertThatThrownBy(() -> ShiftDelta.encode(Map.of(32, WorkTimeType.DAY)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void applyTo_roundTripsChangesIncludingDeletion() {
+        String before = ShiftCode.encode(Map.of(1, WorkTimeType.DAY, 10, WorkTimeType.EVENING, 31, WorkTimeType.NIGHT), 31);
+        Map<Integer, WorkTimeType> changes = new HashMap<>();
+        changes.put(1, WorkTimeType.OFF);
+        changes.put(5, WorkTimeType.DAY);
+        changes.put(31, null);
+
+        String after = ShiftDelta.applyTo(before, ShiftDelta.encode(changes));
+
+        assertThat(ShiftCode.typeAt(after, 1)).isEqualTo(WorkTimeType.OFF);
+        assertThat(ShiftCode.typeAt(after, 5)).isEqualTo(WorkTimeType.DAY);
+        assertThat(ShiftCode.typeAt(after, 10)).isEqualTo(WorkTimeType.EVENING);
+        assertThat(ShiftCode.typeAt(after, 31)).isNull();
+    }
+
+    @Test
+    void applyTo_emptyDeltaKeepsCode() {
+        String code = ShiftCode.encode(Map.of(2, WorkTimeType.DAY), 30);
+
+        assertThat(ShiftDelta.applyTo(code, ShiftDelta.encode(Map.of()))).isEqualTo(code);
+    }
+}
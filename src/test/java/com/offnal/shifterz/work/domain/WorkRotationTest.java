@@ -0,0 +1,49 @@
+package com.offnal.shifterz.work.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkRotationTest {
+
+    private static final LocalDate ANCHOR = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void typeAt_repeatsPatternFromAnchor() {
+        WorkRotation rotation = rotation("DDEN-", null);
+
+        assertThat(rotation.typeAt(ANCHOR)).isEqualTo(WorkTimeType.DAY);
+        assertThat(rotation.typeAt(ANCHOR.plusDays(2))).isEqualTo(WorkTimeType.EVENING);
+        assertThat(rotation.typeAt(ANCHOR.plusDays(4))).isEqualTo(WorkTimeType.OFF);
+        assertThat(rotation.typeAt(ANCHOR.plusDays(5))).isEqualTo(WorkTimeType.DAY);
+        assertThat(rotation.typeAt(ANCHOR.plusDays(5 * 100 + 3))).isEqualTo(WorkTimeType.NIGHT);
+    }
+
+    @Test
+    void typeAt_isNullBeforeAnchor() {
+        WorkRotation rotation = rotation("DDEN-", null);
+
+        assertThat(rotation.covers(ANCHOR.minusDays(1))).isFalse();
+        assertThat(rotation.typeAt(ANCHOR.minusDays(1))).isNull();
+        assertThat(rotation.typeAt(ANCHOR.minusDays(5))).isNull();
+    }
+
+    @Test
+    void typeAt_isNullAfterEndDate() {
+        WorkRotation rotation = rotation("DN", ANCHOR.plusDays(3));
+
+        assertThat(rotation.typeAt(ANCHOR.plusDays(3))).isEqualTo(WorkTimeType.NIGHT);
+        assertThat(rotation.typeAt(ANCHOR.plusDays(4))).isNull();
+    }
+
+    private WorkRotation rotation(String pattern, LocalDate endDate) {
+        return WorkRotation.builder()
+                .memberId(1L)
+                .pattern(pattern)
+                .anchorDate(ANCHOR)
+                .endDate(endDate)
+                .build();
+    }
+}
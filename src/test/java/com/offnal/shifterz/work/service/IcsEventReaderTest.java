@@ -0,0 +1,140 @@
+package com.offnal.shifterz.work.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IcsEventReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void next_readsAllDayUtcAndTzidEvents() throws IOException {
+        IcsEventReader reader = reader(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20250701",
+                "CATEGORIES:NIGHT",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART:20250701T230000Z",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;TZID=UTC:20250703T000000",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        IcsEventReader.IcsEvent allDay = reader.next();
+        assertThat(allDay.date()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(allDay.startTime()).isNull();
+        assertThat(allDay.category()).isEqualTo("NIGHT");
+
+        // UTC 23:00 -> 서울 다음 날 08:00
+        IcsEventReader.IcsEvent utc = reader.next();
+        assertThat(utc.date()).isEqualTo(LocalDate.of(2025, 7, 2));
+        assertThat(utc.startTime()).isEqualTo(LocalTime.of(8, 0));
+
+        IcsEventReader.IcsEvent tzid = reader.next();
+        assertThat(tzid.date()).isEqualTo(LocalDate.of(2025, 7, 3));
+        assertThat(tzid.startTime()).isEqualTo(LocalTime.of(9, 0));
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_unfoldsContinuationLines() throws IOException {
+        IcsEventReader reader = reader(
+                "BEGIN:VEVENT",
+                "DTSTART:2025070",
+                " 1T160000",
+                "END:VEVENT");
+
+        IcsEventReader.IcsEvent event = reader.next();
+
+        assertThat(event.date()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(event.startTime()).isEqualTo(LocalTime.of(16, 0));
+    }
+
+    @Test
+    void next_rejectsDtstartWithoutColon() {
+        IcsEventReader reader = reader(
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE",
+                "END:VEVENT");
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void next_rejectsUnparsableDate() {
+        IcsEventReader reader = reader(
+                "BEGIN:VEVENT",
+                "DTSTART:20251341",
+                "END:VEVENT");
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void next_rejectsEventWithoutDtstart() {
+        IcsEventReader reader = reader(
+                "BEGIN:VEVENT",
+                "SUMMARY:근무",
+                "END:VEVENT");
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void next_rejectsRecurringEventNamingProperty() {
+        IcsEventReader reader = reader(
+                "BEGIN:VEVENT",
+                "DTSTART:20250701T070000",
+                "RRULE:FREQ=DAILY;COUNT=10",
+                "END:VEVENT");
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IcsEventReader.UnsupportedPropertyException.class)
+                .extracting(e -> ((IcsEventReader.UnsupportedPropertyException) e).getProperty())
+                .isEqualTo("RRULE");
+    }
+
+    @Test
+    void next_rejectsRdateWithParameters() {
+        IcsEventReader reader = reader(
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20250701",
+                "RDATE;VALUE=DATE:20250708,20250715",
+                "END:VEVENT");
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IcsEventReader.UnsupportedPropertyException.class)
+                .hasMessageContaining("RDATE");
+    }
+
+    @Test
+    void next_ignoresRecurrencePropertiesOutsideEvents() throws IOException {
+        IcsEventReader reader = reader(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VTIMEZONE",
+                "RRULE:FREQ=YEARLY;BYMONTH=3",
+                "END:VTIMEZONE",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20250701",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        assertThat(reader.next().date()).isEqualTo(LocalDate.of(2025, 7, 1));
+    }
+
+    private IcsEventReader reader(String... lines) {
+        return new IcsEventReader(new StringReader(String.join("\r\n", lines)), SEOUL);
+    }
+}
@@ -0,0 +1,127 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.ScheduledDay;
+import com.offnal.shifterz.work.domain.WorkCalendarOutbox;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeBatchRepository;
+import com.offnal.shifterz.work.repository.WorkCalendarOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkCalendarChangeLogTest {
+
+    private static final long MEMBER_ID = 1L;
+
+    @Mock
+    private WorkCalendarChangeBatchRepository changeBatchRepository;
+    @Mock
+    private WorkCalendarOutboxRepository outboxRepository;
+    @Mock
+    private WorkScheduleReader workScheduleReader;
+
+    @InjectMocks
+    private WorkCalendarChangeLog changeLog;
+
+    @Test
+    void append_withoutDays_doesNotBumpVersion() {
+        changeLog.append(MEMBER_ID, Map.of());
+
+        verifyNoInteractions(changeBatchRepository, outboxRepository);
+    }
+
+    @Test
+    void append_writesDaysUnderNextVersionAndSavesOutboxRange() {
+        ReflectionTestUtils.setField(changeLog, "outboxEnabled", true);
+        when(changeBatchRepository.nextVersion(MEMBER_ID)).thenReturn(5L);
+        Map<LocalDate, WorkTimeType> days = Map.of(
+                LocalDate.of(2025, 7, 3), WorkTimeType.DAY,
+                LocalDate.of(2025, 7, 1), WorkTimeType.OFF);
+
+        changeLog.append(MEMBER_ID, days);
+
+        verify(changeBatchRepository).insertAll(MEMBER_ID, 5L, days);
+        WorkCalendarOutbox outbox = savedOutbox();
+        assertThat(outbox.getVersion()).isEqualTo(5L);
+        assertThat(outbox.getFromDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(outbox.getToDate()).isEqualTo(LocalDate.of(2025, 7, 3));
+    }
+
+    @Test
+    void append_withOutboxDisabled_onlyWritesChanges() {
+        when(changeBatchRepository.nextVersion(MEMBER_ID)).thenReturn(1L);
+
+        changeLog.append(MEMBER_ID, Map.of(LocalDate.of(2025, 7, 1), WorkTimeType.DAY));
+
+        verify(changeBatchRepository).insertAll(eq(MEMBER_ID), eq(1L), any());
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void appendResolved_recordsVisibleTypeAndNullForDaysWithoutSchedule() {
+        LocalDate first = LocalDate.of(2025, 7, 1);
+        LocalDate second = LocalDate.of(2025, 7, 2);
+        when(workScheduleReader.readDays(MEMBER_ID, first, second))
+                .thenReturn(List.of(new ScheduledDay(first, WorkTimeType.NIGHT, null, Map.of())));
+        when(changeBatchRepository.nextVersion(MEMBER_ID)).thenReturn(2L);
+
+        changeLog.appendResolved(MEMBER_ID, List.of(second, first));
+
+        Map<LocalDate, WorkTimeType> expected = new HashMap<>();
+        expected.put(first, WorkTimeType.NIGHT);
+        expected.put(second, null);
+        verify(changeBatchRepository).insertAll(MEMBER_ID, 2L, expected);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendMonths_recordsEveryDayOfEachMonth() {
+        when(changeBatchRepository.nextVersion(MEMBER_ID)).thenReturn(3L);
+
+        changeLog.appendMonths(MEMBER_ID, List.of(YearMonth.of(2025, 2)));
+
+        ArgumentCaptor<Map<LocalDate, WorkTimeType>> days = ArgumentCaptor.forClass(Map.class);
+        verify(changeBatchRepository).insertAll(eq(MEMBER_ID), eq(3L), days.capture());
+        assertThat(days.getValue()).hasSize(28);
+    }
+
+    @Test
+    void appendFullResync_writesMarkerAndOutboxWithoutRange() {
+        ReflectionTestUtils.setField(changeLog, "outboxEnabled", true);
+        when(changeBatchRepository.nextVersion(MEMBER_ID)).thenReturn(9L);
+
+        changeLog.appendFullResync(MEMBER_ID);
+
+        verify(changeBatchRepository).insertFullResync(MEMBER_ID, 9L);
+        verify(changeBatchRepository, never()).insertAll(anyLong(), anyLong(), any());
+        WorkCalendarOutbox outbox = savedOutbox();
+        assertThat(outbox.getFromDate()).isNull();
+        assertThat(outbox.getToDate()).isNull();
+    }
+
+    private WorkCalendarOutbox savedOutbox() {
+        ArgumentCaptor<WorkCalendarOutbox> captor = ArgumentCaptor.forClass(WorkCalendarOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
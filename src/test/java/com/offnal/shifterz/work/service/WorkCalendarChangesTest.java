@@ -0,0 +1,129 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.jwt.CustomUserDetails;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.dto.WorkCalendarChangesResDto;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeRepository;
+import com.offnal.shifterz.work.repository.WorkCalendarChangeRow;
+import com.offnal.shifterz.work.repository.WorkCalendarRepository;
+import com.offnal.shifterz.work.repository.WorkInstanceBatchRepository;
+import com.offnal.shifterz.work.repository.WorkInstanceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkCalendarChangesTest {
+
+    private static final long MEMBER_ID = 1L;
+
+    @Mock
+    private WorkCalendarRepository workCalendarRepository;
+    @Mock
+    private WorkInstanceRepository workInstanceRepository;
+    @Mock
+    private WorkInstanceBatchRepository workInstanceBatchRepository;
+    @Mock
+    private WorkScheduleReader workScheduleReader;
+    @Mock
+    private WorkTimeProfileCache workTimeProfileCache;
+    @Mock
+    private WorkCalendarChangeLog workCalendarChangeLog;
+    @Mock
+    private WorkCalendarHistory workCalendarHistory;
+    @Mock
+    private WorkCalendarChangeRepository workCalendarChangeRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private WorkCalendarService workCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails userDetails = new CustomUserDetails(MEMBER_ID, () -> null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getChangesSince_returnsLatestTypePerDateAndLastVersion() {
+        LocalDate date = LocalDate.of(2025, 7, 1);
+        givenRows(
+                new WorkCalendarChangeRow(4L, date, WorkTimeType.DAY),
+                new WorkCalendarChangeRow(5L, date.plusDays(1), WorkTimeType.OFF),
+                new WorkCalendarChangeRow(6L, date, null));
+
+        WorkCalendarChangesResDto changes = workCalendarService.getChangesSince(3L);
+
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getVersion()).isEqualTo(6L);
+        assertThat(changes.getDays()).extracting(WorkCalendarChangesResDto.ChangedDay::getDate)
+                .containsExactly(date, date.plusDays(1));
+        // 같은 날짜는 마지막 변경 (근무표 삭제로 근무 정보 없음)
+        assertThat(changes.getDays().get(0).getWorkType()).isNull();
+        assertThat(changes.getDays().get(1).getWorkType()).isEqualTo(WorkTimeType.OFF);
+    }
+
+    @Test
+    void getChangesSince_withoutChanges_keepsSinceVersion() {
+        givenRows();
+
+        WorkCalendarChangesResDto changes = workCalendarService.getChangesSince(7L);
+
+        assertThat(changes.getVersion()).isEqualTo(7L);
+        assertThat(changes.getDays()).isEmpty();
+    }
+
+    @Test
+    void getChangesSince_withFullResyncMarker_asksForFullReload() {
+        givenRows(
+                new WorkCalendarChangeRow(4L, LocalDate.of(2025, 7, 1), WorkTimeType.DAY),
+                new WorkCalendarChangeRow(5L, null, null));
+        when(workCalendarChangeRepository.findCurrentVersion(MEMBER_ID)).thenReturn(8L);
+
+        WorkCalendarChangesResDto changes = workCalendarService.getChangesSince(3L);
+
+        assertThat(changes.isFullResync()).isTrue();
+        assertThat(changes.getVersion()).isEqualTo(8L);
+        assertThat(changes.getDays()).isEmpty();
+    }
+
+    @Test
+    void getChangesSince_rejectsNegativeVersion() {
+        assertThatThrownBy(() -> workCalendarService.getChangesSince(-1L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    private void givenRows(WorkCalendarChangeRow... rows) {
+        when(workCalendarChangeRepository.findRowsAfter(eq(MEMBER_ID), any(Long.class), any(Pageable.class)))
+                .thenReturn(Arrays.asList(rows));
+    }
+}
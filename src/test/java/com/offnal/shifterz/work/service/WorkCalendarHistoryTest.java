@@ -0,0 +1,135 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.global.exception.CustomException;
+import com.offnal.shifterz.global.exception.ErrorCode;
+import com.offnal.shifterz.work.domain.ShiftCode;
+import com.offnal.shifterz.work.domain.WorkCalendar;
+import com.offnal.shifterz.work.domain.WorkCalendarRevision;
+import com.offnal.shifterz.work.domain.WorkTimeType;
+import com.offnal.shifterz.work.repository.WorkCalendarRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class WorkCalendarHistoryTest {
+
+    private static final long CALENDAR_ID = 1L;
+    private static final int LENGTH_OF_MONTH = 31;
+    private static final int SNAPSHOT_INTERVAL = 3;
+
+    @Mock
+    private WorkCalendarRevisionRepository revisionRepository;
+
+    // 저장된 이력 (저장소 조회는 이 목록으로 응답)
+    private final List<WorkCalendarRevision> saved = new ArrayList<>();
+
+    private WorkCalendarHistory history;
+
+    @BeforeEach
+    void setUp() {
+        history = new WorkCalendarHistory(revisionRepository, SNAPSHOT_INTERVAL);
+
+        lenient().when(revisionRepository.save(any(WorkCalendarRevision.class))).thenAnswer(invocation -> {
+            WorkCalendarRevision revision = invocation.getArgument(0);
+            saved.add(revision);
+            return revision;
+        });
+        lenient().when(revisionRepository
+                .findTopByWorkCalendarIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(anyLong(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int revision = invocation.getArgument(1);
+                    return saved.stream()
+                            .filter(r -> r.isSnapshot() && r.getRevision() <= revision)
+                            .max(Comparator.comparingInt(WorkCalendarRevision::getRevision));
+                });
+        lenient().when(revisionRepository
+                .findByWorkCalendarIdAndRevisionBetweenOrderByRevisionAsc(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int from = invocation.getArgument(1);
+                    int to = invocation.getArgument(2);
+                    return saved.stream()
+                            .filter(r -> r.getRevision() >= from && r.getRevision() <= to)
+                            .sorted(Comparator.comparingInt(WorkCalendarRevision::getRevision))
+                            .toList();
+                });
+    }
+
+    @Test
+    void rebuild_restoresEveryRevisionAcrossSnapshotBoundaries() {
+        WorkCalendar calendar = calendar(1);
+        String code = ShiftCode.encode(Map.of(1, WorkTimeType.DAY), LENGTH_OF_MONTH);
+        history.recordCreated(calendar, code);
+
+        List<String> expected = new ArrayList<>();
+        expected.add(code);
+        // 이력 2~8 (4, 7 은 스냅샷)
+        for (int day = 2; day <= 8; day++) {
+            Map<Integer, WorkTimeType> changes = Map.of(day, WorkTimeType.NIGHT);
+            code = ShiftCode.with(code, day, WorkTimeType.NIGHT);
+            history.recordUpdated(calendar, changes, code);
+            expected.add(code);
+        }
+
+        assertThat(saved).filteredOn(WorkCalendarRevision::isSnapshot)
+                .extracting(WorkCalendarRevision::getRevision)
+                .containsExactly(1, 4, 7);
+        for (int revision = 1; revision <= calendar.getRevision(); revision++) {
+            assertThat(history.rebuild(calendar, revision)).isEqualTo(expected.get(revision - 1));
+        }
+    }
+
+    @Test
+    void recordUpdated_firstChangeOfLegacyCalendarIsSnapshot() {
+        // 이력 기록 전에 저장된 근무표 (revision 0, 이력 행 없음)
+        WorkCalendar calendar = calendar(0);
+        String code = ShiftCode.encode(Map.of(1, WorkTimeType.DAY, 2, WorkTimeType.OFF), LENGTH_OF_MONTH);
+
+        history.recordUpdated(calendar, Map.of(2, WorkTimeType.OFF), code);
+
+        assertThat(calendar.getRevision()).isEqualTo(1);
+        assertThat(saved).singleElement().satisfies(revision -> {
+            assertThat(revision.getRevision()).isEqualTo(1);
+            assertThat(revision.isSnapshot()).isTrue();
+            assertThat(revision.getPayload()).isEqualTo(code);
+        });
+        assertThat(history.rebuild(calendar, 1)).isEqualTo(code);
+    }
+
+    @Test
+    void rebuild_rejectsRevisionOutsideHistory() {
+        WorkCalendar legacy = calendar(0);
+        WorkCalendar current = calendar(2);
+
+        assertThatThrownBy(() -> history.rebuild(legacy, 0))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REVISION_NOT_FOUND));
+        assertThatThrownBy(() -> history.rebuild(current, 3))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REVISION_NOT_FOUND));
+    }
+
+    private WorkCalendar calendar(int revision) {
+        return WorkCalendar.builder()
+                .id(CALENDAR_ID)
+                .memberId(1L)
+                .year("2025")
+                .month("7")
+                .revision(revision)
+                .build();
+    }
+}
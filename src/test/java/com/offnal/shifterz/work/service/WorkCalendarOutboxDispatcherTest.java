@@ -0,0 +1,147 @@
+package com.offnal.shifterz.work.service;
+
+import com.offnal.shifterz.work.domain.WorkCalendarOutbox;
+import com.offnal.shifterz.work.event.WorkCalendarOutboxEvent;
+import com.offnal.shifterz.work.event.WorkCalendarProjection;
+import com.offnal.shifterz.work.repository.WorkCalendarOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkCalendarOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private WorkCalendarOutboxRepository outboxRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private WorkCalendarProjection projection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkCalendarOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new WorkCalendarOutboxDispatcher(outboxRepository, List.of(projection), transactionManager,
+                meterRegistry, BATCH_SIZE, MAX_ATTEMPTS, 60_000L, 5_000L);
+        lenient().when(projection.name()).thenReturn("test");
+    }
+
+    @Test
+    void dispatchBatch_withoutPendingEvents_doesNotCallProjections() {
+        when(outboxRepository.claimNextBatch(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(0);
+
+        assertThat(dispatcher.dispatchBatch()).isZero();
+
+        verify(projection, never()).handle(any());
+        verify(outboxRepository, never()).findByClaimTokenOrderByIdAsc(anyString());
+    }
+
+    @Test
+    void dispatchBatch_deletesDeliveredEventsUnderTheClaimToken() {
+        givenClaimed(outbox(1L, 0), outbox(2L, 0));
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(2);
+
+        verify(projection, times(2)).handle(any(WorkCalendarOutboxEvent.class));
+        assertThat(deletedIds()).containsExactly(1L, 2L);
+        verify(outboxRepository, never()).releaseFailed(anyCollection(), anyString(), any());
+    }
+
+    @Test
+    void dispatchBatch_releasesFailedEventForRetryLater() {
+        givenClaimed(outbox(1L, 0));
+        doThrow(new IllegalStateException("down")).when(projection).handle(any());
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+
+        ArgumentCaptor<Collection<Long>> ids = idsCaptor();
+        ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).releaseFailed(ids.capture(), anyString(), retryAt.capture());
+        assertThat(ids.getValue()).containsExactly(1L);
+        assertThat(retryAt.getValue()).isAfterOrEqualTo(before.plusSeconds(5));
+        verify(outboxRepository, never()).deleteClaimed(anyCollection(), anyString());
+        assertThat(meterRegistry.counter("work.outbox.failed", "projection", "test").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatchBatch_dropsEventAfterMaxAttempts() {
+        givenClaimed(outbox(1L, MAX_ATTEMPTS - 1), outbox(2L, 0));
+        doThrow(new IllegalStateException("down")).when(projection).handle(any());
+
+        dispatcher.dispatchBatch();
+
+        assertThat(deletedIds()).containsExactly(1L);
+        ArgumentCaptor<Collection<Long>> released = idsCaptor();
+        verify(outboxRepository).releaseFailed(released.capture(), anyString(), any());
+        assertThat(released.getValue()).containsExactly(2L);
+        assertThat(meterRegistry.counter("work.outbox.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatchBatch_claimsAndFinishesWithTheSameToken() {
+        givenClaimed(outbox(1L, 0));
+
+        dispatcher.dispatchBatch();
+
+        ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository).claimNextBatch(claimToken.capture(), any(), any(), eq(BATCH_SIZE));
+        verify(outboxRepository).findByClaimTokenOrderByIdAsc(claimToken.getValue());
+        verify(outboxRepository).deleteClaimed(anyCollection(), eq(claimToken.getValue()));
+    }
+
+    private void givenClaimed(WorkCalendarOutbox... outboxes) {
+        when(outboxRepository.claimNextBatch(anyString(), any(), any(), anyInt())).thenReturn(outboxes.length);
+        when(outboxRepository.findByClaimTokenOrderByIdAsc(anyString())).thenReturn(List.of(outboxes));
+    }
+
+    private List<Long> deletedIds() {
+        ArgumentCaptor<Collection<Long>> ids = idsCaptor();
+        verify(outboxRepository).deleteClaimed(ids.capture(), anyString());
+        return new ArrayList<>(ids.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<Long>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private WorkCalendarOutbox outbox(Long id, int attempts) {
+        return WorkCalendarOutbox.builder()
+                .id(id)
+                .memberId(100L + id)
+                .version(id)
+                .createdAt(LocalDateTime.now())
+                .attempts(attempts)
+                .build();
+    }
+}